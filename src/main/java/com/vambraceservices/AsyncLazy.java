@@ -0,0 +1,102 @@
+package com.vambraceservices;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * The AsyncLazy class
+ *
+ * A Lazy whose value is loaded on an executor. The first call to get or
+ * toFuture starts the load, and every caller shares its future. If the load
+ * fails, the next call starts it again.
+ *
+ * @param <V> type of returned value
+ */
+
+public final class AsyncLazy<V> extends Lazy<V> {
+
+  private final Supplier<V>                             loader;
+  private final Executor                                executor;
+  private final AtomicReference<CompletableFuture<V>>   future = new AtomicReference<>();
+
+  /**
+   * @param loader - supplier that can be called to load the value when needed
+   * @param executor - runs the loader
+   */
+
+  AsyncLazy(Supplier<V> loader, Executor executor) {
+    this.loader = Objects.requireNonNull(loader);
+    this.executor = Objects.requireNonNull(executor);
+  }
+
+  /**
+   * Starts the load if needed, then waits for it
+   *
+   * @return - loaded value
+   */
+
+  @Override
+  public V get() {
+    try {
+      return this.toFuture().join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * @return if the value has been loaded
+   */
+
+  @Override
+  public boolean isLoaded() {
+    CompletableFuture<V> current = this.future.get();
+    return Objects.nonNull(current) && current.isDone() && !current.isCompletedExceptionally();
+  }
+
+  /**
+   * Starts the load if it has not started, or if the last one failed
+   *
+   * @return future completed with the value; completing it from outside has no effect on the lazy
+   */
+
+  public CompletableFuture<V> toFuture() {
+    while (true) {
+      CompletableFuture<V> current = this.future.get();
+      if (Objects.nonNull(current) && !current.isCompletedExceptionally()) {
+        return current.thenApply(v -> v);
+      }
+      CompletableFuture<V> next = new CompletableFuture<>();
+      if (this.future.compareAndSet(current, next)) {
+        this.start(next);
+        return next.thenApply(v -> v);
+      }
+    }
+  }
+
+  private void start(CompletableFuture<V> target) {
+    try {
+      this.executor.execute(() -> {
+        try {
+          target.complete(this.loader.get());
+        } catch (Throwable e) {
+          target.completeExceptionally(e);
+        }
+      });
+    } catch (RuntimeException e) {
+      target.completeExceptionally(e);
+    }
+  }
+
+}
@@ -0,0 +1,113 @@
+package com.vambraceservices;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A BoxedList of consecutive groups of a source list's items, produced
+ * lazily. Random access sources are grouped into sub list views without
+ * copying; other sources are buffered as they are traversed.
+ *
+ * @param <L> source stored type
+ */
+
+final class BatchedBoxedList<L> extends TraversedBoxedList<List<L>> {
+
+  private final BoxedList<L> source;
+  private final int          size;
+  private final int          step;
+  private final boolean      partial;
+
+  /**
+   * @param source - list to group
+   * @param size - number of items in each group
+   * @param step - number of items between the starts of each group
+   * @param partial - if a smaller trailing group is kept
+   */
+
+  BatchedBoxedList(BoxedList<L> source, int size, int step, boolean partial) {
+    if (size < 1 || step < 1) {
+      throw new IllegalArgumentException("size " + size + " and step " + step + " must be positive");
+    }
+    this.source = source;
+    this.size = size;
+    this.step = step;
+    this.partial = partial;
+  }
+
+  @Override
+  boolean traverse(Sink<List<L>> sink) {
+    if (this.source.isRandomAccess()) {
+      return this.traverseViews(sink);
+    }
+    Buffer buffer = new Buffer(sink);
+    if (!this.source.traverse(buffer)) {
+      return false;
+    }
+    return buffer.flush();
+  }
+
+  @Override
+  int estimateSize() {
+    return this.source.estimateSize() / this.step + 1;
+  }
+
+  private boolean traverseViews(Sink<List<L>> sink) {
+    List<L> items = this.source.view();
+    int count = items.size();
+    for (int from = 0; from < count; from += this.step) {
+      int to = from + this.size;
+      if (to > count) {
+        if (!this.partial) {
+          break;
+        }
+        to = count;
+      }
+      if (!sink.push(items.subList(from, to))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private final class Buffer implements Sink<L> {
+
+    private final Sink<List<L>> downstream;
+    private List<L>             items = new ArrayList<>(size);
+    private int                 skip;
+
+    private Buffer(Sink<List<L>> downstream) {
+      this.downstream = downstream;
+    }
+
+    @Override
+    public boolean push(L item) {
+      if (this.skip > 0) {
+        this.skip--;
+        return true;
+      }
+      this.items.add(item);
+      if (this.items.size() < size) {
+        return true;
+      }
+      List<L> group;
+      if (step < size) {
+        group = new ArrayList<>(this.items);
+        this.items.subList(0, step).clear();
+      } else {
+        group = this.items;
+        this.items = new ArrayList<>(size);
+        this.skip = step - size;
+      }
+      return this.downstream.push(group);
+    }
+
+    private boolean flush() {
+      if (partial && !this.items.isEmpty()) {
+        return this.downstream.push(this.items);
+      }
+      return true;
+    }
+  }
+
+}
@@ -3,14 +3,20 @@ package com.vambraceservices;
 import java.util.Collection;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 public final class Boxed<T> {
 
-  private T value;
+  private static final Boxed<?> EMPTY = new Boxed<>(null);
+
+  private final T value;
 
   private Boxed(T seed) {
     this.value = seed;
@@ -37,6 +43,25 @@ public final class Boxed<T> {
     return Optional.ofNullable(this.value);
   }
 
+  /**
+   * Return inner value without wrapping it
+   * @param other - value to return if this box is empty
+   * @return inner value, or other if empty
+   */
+
+  public T orElse(T other) {
+    return this.isNotEmpty() ? this.value : other;
+  }
+
+  /**
+   * @param supplier - provides value to return if this box is empty
+   * @return inner value, or the supplied value if empty
+   */
+
+  public T orElseGet(Supplier<T> supplier) {
+    return this.isNotEmpty() ? this.value : supplier.get();
+  }
+
   /**
    * @param <T> - the stored type
    * @param seed - the supplied value boxed
@@ -44,9 +69,31 @@ public final class Boxed<T> {
    */
 
   public static <T> Boxed<T> of(T seed) {
+    if (Objects.isNull(seed)) {
+      return empty();
+    }
     return new Boxed<>(seed);
   }
 
+  /**
+   * @param <T> - the stored type
+   * @return the shared empty box
+   */
+
+  @SuppressWarnings("unchecked")
+  public static <T> Boxed<T> empty() {
+    return (Boxed<T>) EMPTY;
+  }
+
+  /**
+   * @param <T> - the seed type
+   * @return new pipeline to record steps once and apply them to many seeds
+   */
+
+  public static <T> BoxedPipeline<T, T> pipeline() {
+    return BoxedPipeline.identity();
+  }
+
   /**
    * @param <T> - the stored type
    * @param supplier - provides inner value to be stored
@@ -55,9 +102,9 @@ public final class Boxed<T> {
 
   public static <T> Boxed<T> from(Supplier<T> supplier) {
     if (Objects.isNull(supplier)) {
-      return new Boxed<>(null);
+      return empty();
     }
-    return new Boxed<>(supplier.get());
+    return of(supplier.get());
   }
 
   /**
@@ -82,7 +129,10 @@ public final class Boxed<T> {
    */
 
   public Boxed<T> filter(Predicate<T> selector) {
-    return this.map(selector, v -> v);
+    if (this.isNotEmpty() && selector.test(this.value)) {
+      return this;
+    }
+    return empty();
   }
 
   /**
@@ -93,7 +143,12 @@ public final class Boxed<T> {
    */
 
   public <R> Boxed<R> map(Function<T, R> function, Supplier<R> alternative) {
-    return this.map(v -> true, function, alternative);
+    if (this.isNotEmpty()) {
+      return of(function.apply(this.value));
+    } else if (Objects.nonNull(alternative)) {
+      return of(alternative.get());
+    }
+    return empty();
   }
 
   /**
@@ -103,7 +158,10 @@ public final class Boxed<T> {
    */
 
   public <R> Boxed<R> map(Function<T, R> function) {
-    return this.map(v -> true, function);
+    if (this.isNotEmpty()) {
+      return of(function.apply(this.value));
+    }
+    return empty();
   }
 
   /**
@@ -113,7 +171,13 @@ public final class Boxed<T> {
    */
 
   public <R> Boxed<R> omap(Function<T, Optional<R>> function) {
-    return this.map(function).map(Optional::isPresent, Optional::get);
+    if (this.isNotEmpty()) {
+      Optional<R> next = function.apply(this.value);
+      if (Objects.nonNull(next) && next.isPresent()) {
+        return new Boxed<>(next.get());
+      }
+    }
+    return empty();
   }
 
   /**
@@ -123,7 +187,13 @@ public final class Boxed<T> {
    */
 
   public <R> Boxed<R> flatmap(Function<T, Boxed<R>> function) {
-    return this.map(function).map(Boxed::isNotEmpty, Boxed::get).omap(optional -> optional);
+    if (this.isNotEmpty()) {
+      Boxed<R> next = function.apply(this.value);
+      if (Objects.nonNull(next)) {
+        return next;
+      }
+    }
+    return empty();
   }
 
   /**
@@ -134,7 +204,10 @@ public final class Boxed<T> {
    */
 
   public <R> Boxed<R> map(Predicate<T> selector, Function<T, R> function) {
-    return this.map(selector, function, () -> null);
+    if (this.isNotEmpty() && selector.test(this.value)) {
+      return of(function.apply(this.value));
+    }
+    return empty();
   }
 
   /**
@@ -146,12 +219,48 @@ public final class Boxed<T> {
    */
 
   public <R> Boxed<R> map(Predicate<T> selector, Function<T, R> function, Supplier<R> supplier) {
-    if (!this.isEmpty() && selector.test(this.value)) {
-      return new Boxed<>(function.apply(this.value));
+    if (this.isNotEmpty() && selector.test(this.value)) {
+      return of(function.apply(this.value));
     } else if (Objects.nonNull(supplier)) {
-      return new Boxed<>(supplier.get());
+      return of(supplier.get());
+    }
+    return empty();
+  }
+
+  /**
+   * @param function - converts the inner value to a primitive
+   * @return new instance of BoxedInt with either new value or empty
+   */
+
+  public BoxedInt mapToInt(ToIntFunction<T> function) {
+    if (this.isNotEmpty()) {
+      return BoxedInt.of(function.applyAsInt(this.value));
+    }
+    return BoxedInt.empty();
+  }
+
+  /**
+   * @param function - converts the inner value to a primitive
+   * @return new instance of BoxedLong with either new value or empty
+   */
+
+  public BoxedLong mapToLong(ToLongFunction<T> function) {
+    if (this.isNotEmpty()) {
+      return BoxedLong.of(function.applyAsLong(this.value));
     }
-    return new Boxed<>(null);
+    return BoxedLong.empty();
+  }
+
+  /**
+   * @param function - converts the inner value to a primitive
+   * @return new instance of BoxedDouble with either new value or empty
+   */
+
+  public BoxedDouble mapToDouble(ToDoubleFunction<T> function) {
+    if (this.isNotEmpty()) {
+      return BoxedDouble.of(function.applyAsDouble(this.value));
+    }
+    return BoxedDouble.empty();
   }
 
   /**
@@ -164,7 +273,24 @@ public final class Boxed<T> {
     if (selector.test(this.value)) {
       return this;
     }
-    return new Boxed<>(alternative.get());
+    return of(alternative.get());
+  }
+
+  /**
+   * @return this box continued asynchronously on the default executor
+   */
+
+  public BoxedAsync<T> async() {
+    return BoxedAsync.of(this);
+  }
+
+  /**
+   * @param executor - runs async steps
+   * @return this box continued asynchronously
+   */
+
+  public BoxedAsync<T> async(Executor executor) {
+    return BoxedAsync.of(this, executor);
   }
 
   /**
@@ -188,7 +314,7 @@ public final class Boxed<T> {
     if (this.isNotEmpty() && selector.test(this.value)) {
       return new BoxedList<>(function.apply(this.value));
     }
-    return new BoxedList<>(null);
+    return BoxedList.empty();
   }
 
 }
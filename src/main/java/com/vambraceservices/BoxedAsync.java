@@ -0,0 +1,189 @@
+package com.vambraceservices;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * The BoxedAsync class
+ *
+ * Asynchronous counterpart of Boxed backed by a CompletableFuture. A null
+ * result represents an empty box, and async steps are skipped entirely once
+ * the box is empty.
+ *
+ * @param <T> stored type
+ */
+
+public final class BoxedAsync<T> {
+
+  private final CompletableFuture<T> future;
+  private final Executor             executor;
+
+  private BoxedAsync(CompletableFuture<T> future, Executor executor) {
+    this.future = future;
+    this.executor = executor;
+  }
+
+  /**
+   * @param <T> - the stored type
+   * @param boxed - box to continue asynchronously
+   * @return new async box holding the box's value
+   */
+
+  public static <T> BoxedAsync<T> of(Boxed<T> boxed) {
+    return of(boxed, DefaultExecutor.get());
+  }
+
+  /**
+   * @param <T> - the stored type
+   * @param boxed - box to continue asynchronously
+   * @param executor - runs async steps
+   * @return new async box holding the box's value
+   */
+
+  public static <T> BoxedAsync<T> of(Boxed<T> boxed, Executor executor) {
+    T seed = Objects.isNull(boxed) ? null : boxed.orElse(null);
+    return new BoxedAsync<>(CompletableFuture.completedFuture(seed), executor);
+  }
+
+  /**
+   * @param <T> - the stored type
+   * @param supplier - provides inner value, called on the default executor
+   * @return new async box
+   */
+
+  public static <T> BoxedAsync<T> from(Supplier<T> supplier) {
+    return from(supplier, DefaultExecutor.get());
+  }
+
+  /**
+   * @param <T> - the stored type
+   * @param supplier - provides inner value, called on the executor
+   * @param executor - runs the supplier and later async steps
+   * @return new async box
+   */
+
+  public static <T> BoxedAsync<T> from(Supplier<T> supplier, Executor executor) {
+    if (Objects.isNull(supplier)) {
+      return new BoxedAsync<>(CompletableFuture.completedFuture(null), executor);
+    }
+    return new BoxedAsync<>(CompletableFuture.supplyAsync(supplier, executor), executor);
+  }
+
+  /**
+   * @param next - executor for subsequent async steps
+   * @return new async box using the executor
+   */
+
+  public BoxedAsync<T> on(Executor next) {
+    return new BoxedAsync<>(this.future, next);
+  }
+
+  /**
+   * @param consumer - accepts inner value once available, if not empty
+   * @return new async box completing after the consumer
+   */
+
+  public BoxedAsync<T> peek(Consumer<T> consumer) {
+    return new BoxedAsync<>(this.future.thenApply(v -> {
+      if (Objects.nonNull(v)) {
+        consumer.accept(v);
+      }
+      return v;
+    }), this.executor);
+  }
+
+  /**
+   * @param selector - predicate to determine if inner value should be retained
+   * @return new async box with either the value or empty
+   */
+
+  public BoxedAsync<T> filter(Predicate<T> selector) {
+    return new BoxedAsync<>(this.future.thenApply(v -> {
+      if (Objects.nonNull(v) && selector.test(v)) {
+        return v;
+      }
+      return null;
+    }), this.executor);
+  }
+
+  /**
+   * @param <R> - the returned inner type
+   * @param function - to execute on the inner value, on the completing thread
+   * @return new async box with either new value or empty
+   */
+
+  public <R> BoxedAsync<R> map(Function<T, R> function) {
+    return new BoxedAsync<>(this.future.thenApply(v -> {
+      if (Objects.nonNull(v)) {
+        return function.apply(v);
+      }
+      return null;
+    }), this.executor);
+  }
+
+  /**
+   * @param <R> - the returned inner type
+   * @param function - to execute on the inner value, on the executor
+   * @return new async box with either new value or empty
+   */
+
+  public <R> BoxedAsync<R> mapAsync(Function<T, R> function) {
+    return new BoxedAsync<>(this.future.thenCompose(v -> {
+      if (Objects.nonNull(v)) {
+        return CompletableFuture.supplyAsync(() -> function.apply(v), this.executor);
+      }
+      return CompletableFuture.completedFuture(null);
+    }), this.executor);
+  }
+
+  /**
+   * @param <R> - the returned inner type
+   * @param function - to execute on the inner value, on the executor
+   * @return new async box with either the function's value or empty
+   */
+
+  public <R> BoxedAsync<R> flatmapAsync(Function<T, Boxed<R>> function) {
+    return this.mapAsync(function).map(next -> next.orElse(null));
+  }
+
+  /**
+   * @param <R> - the returned inner type
+   * @param function - returns the next async box
+   * @return new async box completing with the returned box
+   */
+
+  public <R> BoxedAsync<R> compose(Function<T, BoxedAsync<R>> function) {
+    return new BoxedAsync<>(this.future.thenCompose(v -> {
+      if (Objects.nonNull(v)) {
+        BoxedAsync<R> next = function.apply(v);
+        if (Objects.nonNull(next)) {
+          return next.future;
+        }
+      }
+      return CompletableFuture.completedFuture(null);
+    }), this.executor);
+  }
+
+  /**
+   * @return future completing with the result boxed
+   */
+
+  public CompletableFuture<Boxed<T>> toFuture() {
+    return this.future.thenApply(Boxed::of);
+  }
+
+  /**
+   * Blocks until complete
+   * @return result boxed
+   */
+
+  public Boxed<T> join() {
+    return Boxed.of(this.future.join());
+  }
+
+}
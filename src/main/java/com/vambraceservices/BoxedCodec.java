@@ -0,0 +1,166 @@
+package com.vambraceservices;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodes items to, and decodes them from, a ByteBuffer at an absolute
+ * offset. Implementations must not change the buffer's position, so one
+ * buffer can be read by many threads.
+ *
+ * @param <L> encoded type
+ */
+
+public interface BoxedCodec<L> {
+
+  int VARIABLE_WIDTH = -1;
+
+  /**
+   * @return number of bytes of every encoded item, or VARIABLE_WIDTH
+   */
+
+  int width();
+
+  /**
+   * @param item - item to be encoded
+   * @return number of bytes the item is encoded in
+   */
+
+  default int sizeOf(L item) {
+    return this.width();
+  }
+
+  /**
+   * @param target - buffer to write to
+   * @param offset - absolute offset to write at
+   * @param item - item to be encoded
+   */
+
+  void write(ByteBuffer target, int offset, L item);
+
+  /**
+   * @param source - buffer to read from
+   * @param offset - absolute offset to read at
+   * @param length - number of bytes the item is encoded in
+   * @return the decoded item
+   */
+
+  L read(ByteBuffer source, int offset, int length);
+
+  /**
+   * @return codec for 4 byte integers
+   */
+
+  static BoxedCodec<Integer> ints() {
+    return new BoxedCodec<Integer>() {
+      @Override
+      public int width() {
+        return Integer.BYTES;
+      }
+
+      @Override
+      public void write(ByteBuffer target, int offset, Integer item) {
+        target.putInt(offset, item);
+      }
+
+      @Override
+      public Integer read(ByteBuffer source, int offset, int length) {
+        return source.getInt(offset);
+      }
+    };
+  }
+
+  /**
+   * @return codec for 8 byte longs
+   */
+
+  static BoxedCodec<Long> longs() {
+    return new BoxedCodec<Long>() {
+      @Override
+      public int width() {
+        return Long.BYTES;
+      }
+
+      @Override
+      public void write(ByteBuffer target, int offset, Long item) {
+        target.putLong(offset, item);
+      }
+
+      @Override
+      public Long read(ByteBuffer source, int offset, int length) {
+        return source.getLong(offset);
+      }
+    };
+  }
+
+  /**
+   * @return codec for 8 byte doubles
+   */
+
+  static BoxedCodec<Double> doubles() {
+    return new BoxedCodec<Double>() {
+      @Override
+      public int width() {
+        return Double.BYTES;
+      }
+
+      @Override
+      public void write(ByteBuffer target, int offset, Double item) {
+        target.putDouble(offset, item);
+      }
+
+      @Override
+      public Double read(ByteBuffer source, int offset, int length) {
+        return source.getDouble(offset);
+      }
+    };
+  }
+
+  /**
+   * @return variable width codec for UTF-8 strings
+   */
+
+  static BoxedCodec<String> utf8() {
+    return new BoxedCodec<String>() {
+      @Override
+      public int width() {
+        return VARIABLE_WIDTH;
+      }
+
+      @Override
+      public int sizeOf(String item) {
+        int size = 0;
+        for (int i = 0; i < item.length(); i++) {
+          char c = item.charAt(i);
+          if (c < 0x80) {
+            size += 1;
+          } else if (c < 0x800) {
+            size += 2;
+          } else if (Character.isHighSurrogate(c) && i + 1 < item.length()
+                     && Character.isLowSurrogate(item.charAt(i + 1))) {
+            size += 4;
+            i++;
+          } else if (Character.isSurrogate(c)) {
+            size += 1; // unpaired surrogates are written as '?'
+          } else {
+            size += 3;
+          }
+        }
+        return size;
+      }
+
+      @Override
+      public void write(ByteBuffer target, int offset, String item) {
+        target.put(offset, item.getBytes(StandardCharsets.UTF_8));
+      }
+
+      @Override
+      public String read(ByteBuffer source, int offset, int length) {
+        byte[] bytes = new byte[length];
+        source.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+      }
+    };
+  }
+
+}
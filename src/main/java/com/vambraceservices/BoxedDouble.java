@@ -0,0 +1,238 @@
+package com.vambraceservices;
+
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * The BoxedDouble class
+ *
+ * Primitive double specialization of Boxed. Presence is held in a flag rather
+ * than a null reference, so no value is ever autoboxed.
+ */
+
+public final class BoxedDouble {
+
+  private static final BoxedDouble EMPTY = new BoxedDouble(false, 0d);
+
+  private final boolean present;
+  private final double  value;
+
+  private BoxedDouble(boolean present, double seed) {
+    this.present = present;
+    this.value = seed;
+  }
+
+  /**
+   * @param seed - the supplied value boxed
+   * @return new boxed instance containing value
+   */
+
+  public static BoxedDouble of(double seed) {
+    return new BoxedDouble(true, seed);
+  }
+
+  /**
+   * @param seed - the supplied value, possibly null
+   * @return new boxed instance containing value, or empty if null
+   */
+
+  public static BoxedDouble of(Double seed) {
+    if (Objects.isNull(seed)) {
+      return EMPTY;
+    }
+    return new BoxedDouble(true, seed);
+  }
+
+  /**
+   * @return the shared empty box
+   */
+
+  public static BoxedDouble empty() {
+    return EMPTY;
+  }
+
+  /**
+   * @param supplier - provides inner value to be stored
+   * @return the supplier's returned value boxed.
+   */
+
+  public static BoxedDouble from(DoubleSupplier supplier) {
+    if (Objects.isNull(supplier)) {
+      return EMPTY;
+    }
+    return new BoxedDouble(true, supplier.getAsDouble());
+  }
+
+  /**
+   * @param consumer - accepts inner value to be called if inner value is valid
+   * @return itself
+   */
+
+  public BoxedDouble peek(DoubleConsumer consumer) {
+    if (this.present) {
+      consumer.accept(this.value);
+    }
+    return this;
+  }
+
+  /**
+   * Return inner value as optional
+   * @return inner value wrapped in OptionalDouble
+   */
+
+  public OptionalDouble get() {
+    if (this.present) {
+      return OptionalDouble.of(this.value);
+    }
+    return OptionalDouble.empty();
+  }
+
+  /**
+   * @param other - value to return if this box is empty
+   * @return inner value, or other if empty
+   */
+
+  public double orElse(double other) {
+    return this.present ? this.value : other;
+  }
+
+  /**
+   * @param supplier - provides value to return if this box is empty
+   * @return inner value, or the supplied value if empty
+   */
+
+  public double orElseGet(DoubleSupplier supplier) {
+    return this.present ? this.value : supplier.getAsDouble();
+  }
+
+  /**
+   * @return if this box is empty
+   */
+
+  public boolean isEmpty() {
+    return !this.present;
+  }
+
+  /**
+   * @return if this box is not empty
+   */
+
+  public boolean isNotEmpty() {
+    return this.present;
+  }
+
+  /**
+   * @param selector - predicate to determine if inner value should be retained
+   * @return this box, or empty
+   */
+
+  public BoxedDouble filter(DoublePredicate selector) {
+    if (this.present && selector.test(this.value)) {
+      return this;
+    }
+    return EMPTY;
+  }
+
+  /**
+   * @param function - to execute on the inner value
+   * @return new instance with either new value or empty
+   */
+
+  public BoxedDouble map(DoubleUnaryOperator function) {
+    if (this.present) {
+      return new BoxedDouble(true, function.applyAsDouble(this.value));
+    }
+    return EMPTY;
+  }
+
+  /**
+   * @param function - to execute on inner value,
+   * @param alternative - value to retain if no current valid inner value
+   * @return new instance with either new value or alternative
+   */
+
+  public BoxedDouble map(DoubleUnaryOperator function, DoubleSupplier alternative) {
+    return this.map(v -> true, function, alternative);
+  }
+
+  /**
+   * @param selector - to determine if current inner value valid,
+   * @param function - to execute on that inner value
+   * @return new instance with either new value or empty
+   */
+
+  public BoxedDouble map(DoublePredicate selector, DoubleUnaryOperator function) {
+    return this.map(selector, function, null);
+  }
+
+  /**
+   * @param selector - to determine if current inner value valid,
+   * @param function - to execute on that inner value
+   * @param supplier - of alternative if method cannot be called
+   * @return new instance with either new value or empty
+   */
+
+  public BoxedDouble map(DoublePredicate selector, DoubleUnaryOperator function, DoubleSupplier supplier) {
+    if (this.present && selector.test(this.value)) {
+      return new BoxedDouble(true, function.applyAsDouble(this.value));
+    } else if (Objects.nonNull(supplier)) {
+      return new BoxedDouble(true, supplier.getAsDouble());
+    }
+    return EMPTY;
+  }
+
+  /**
+   * @param function to execute on inner value
+   * @return box returned by the function, or empty
+   */
+
+  public BoxedDouble flatmap(DoubleFunction<BoxedDouble> function) {
+    if (this.present) {
+      BoxedDouble next = function.apply(this.value);
+      if (Objects.nonNull(next)) {
+        return next;
+      }
+    }
+    return EMPTY;
+  }
+
+  /**
+   * @param selector - to determine if current inner value is valid
+   * @param alternative - to supply alternative value if it is not valid
+   * @return this box, or new instance with the alternative
+   */
+
+  public BoxedDouble or(DoublePredicate selector, DoubleSupplier alternative) {
+    if (this.present && selector.test(this.value)) {
+      return this;
+    }
+    return new BoxedDouble(true, alternative.getAsDouble());
+  }
+
+  /**
+   * @param <R> - the returned inner type
+   * @param function - to execute on the inner value
+   * @return new instance of Boxed with either new value or empty
+   */
+
+  public <R> Boxed<R> mapToObj(DoubleFunction<R> function) {
+    if (this.present) {
+      return Boxed.of(function.apply(this.value));
+    }
+    return Boxed.empty();
+  }
+
+  /**
+   * @return the inner value as a reference Boxed
+   */
+
+  public Boxed<Double> boxed() {
+    return this.mapToObj(v -> v);
+  }
+
+}
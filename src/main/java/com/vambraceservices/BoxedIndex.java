@@ -0,0 +1,81 @@
+package com.vambraceservices;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The BoxedIndex class
+ *
+ * Read only multi valued hash index of a BoxedList's items by key. Built once,
+ * on first use, and kept for the lifetime of the index.
+ *
+ * @param <K> key type
+ * @param <L> indexed type
+ */
+
+public final class BoxedIndex<K, L> {
+
+  private final Lazy<Map<K, BoxedList<L>>> entries;
+
+  /**
+   * @param source - list to index
+   * @param key - returns the key of each item
+   */
+
+  BoxedIndex(BoxedList<L> source, Function<L, K> key) {
+    this.entries = Lazy.init(() -> build(source, key));
+  }
+
+  private static <K, L> Map<K, BoxedList<L>> build(BoxedList<L> source, Function<L, K> key) {
+    Map<K, List<L>> grouped = new HashMap<>();
+    source.traverse(item -> {
+      grouped.computeIfAbsent(key.apply(item), k -> new ArrayList<>(1)).add(item);
+      return true;
+    });
+    Map<K, BoxedList<L>> entries = new HashMap<>((int) (grouped.size() / 0.75f) + 1);
+    grouped.forEach((k, items) -> entries.put(k, new BoxedList<>(items)));
+    return Collections.unmodifiableMap(entries);
+  }
+
+  /**
+   * @param key - key to look up
+   * @return items with the key in encounter order, or an empty list
+   */
+
+  public BoxedList<L> lookup(K key) {
+    BoxedList<L> items = this.entries.get().get(key);
+    return Objects.isNull(items) ? BoxedList.empty() : items;
+  }
+
+  /**
+   * @param key - key to look up
+   * @return if any item has the key
+   */
+
+  public boolean contains(K key) {
+    return this.entries.get().containsKey(key);
+  }
+
+  /**
+   * @return unmodifiable set of all keys
+   */
+
+  public Set<K> keys() {
+    return this.entries.get().keySet();
+  }
+
+  /**
+   * @return the number of distinct keys
+   */
+
+  public int size() {
+    return this.entries.get().size();
+  }
+
+}
@@ -0,0 +1,238 @@
+package com.vambraceservices;
+
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * The BoxedInt class
+ *
+ * Primitive int specialization of Boxed. Presence is held in a flag rather
+ * than a null reference, so no value is ever autoboxed.
+ */
+
+public final class BoxedInt {
+
+  private static final BoxedInt EMPTY = new BoxedInt(false, 0);
+
+  private final boolean present;
+  private final int     value;
+
+  private BoxedInt(boolean present, int seed) {
+    this.present = present;
+    this.value = seed;
+  }
+
+  /**
+   * @param seed - the supplied value boxed
+   * @return new boxed instance containing value
+   */
+
+  public static BoxedInt of(int seed) {
+    return new BoxedInt(true, seed);
+  }
+
+  /**
+   * @param seed - the supplied value, possibly null
+   * @return new boxed instance containing value, or empty if null
+   */
+
+  public static BoxedInt of(Integer seed) {
+    if (Objects.isNull(seed)) {
+      return EMPTY;
+    }
+    return new BoxedInt(true, seed);
+  }
+
+  /**
+   * @return the shared empty box
+   */
+
+  public static BoxedInt empty() {
+    return EMPTY;
+  }
+
+  /**
+   * @param supplier - provides inner value to be stored
+   * @return the supplier's returned value boxed.
+   */
+
+  public static BoxedInt from(IntSupplier supplier) {
+    if (Objects.isNull(supplier)) {
+      return EMPTY;
+    }
+    return new BoxedInt(true, supplier.getAsInt());
+  }
+
+  /**
+   * @param consumer - accepts inner value to be called if inner value is valid
+   * @return itself
+   */
+
+  public BoxedInt peek(IntConsumer consumer) {
+    if (this.present) {
+      consumer.accept(this.value);
+    }
+    return this;
+  }
+
+  /**
+   * Return inner value as optional
+   * @return inner value wrapped in OptionalInt
+   */
+
+  public OptionalInt get() {
+    if (this.present) {
+      return OptionalInt.of(this.value);
+    }
+    return OptionalInt.empty();
+  }
+
+  /**
+   * @param other - value to return if this box is empty
+   * @return inner value, or other if empty
+   */
+
+  public int orElse(int other) {
+    return this.present ? this.value : other;
+  }
+
+  /**
+   * @param supplier - provides value to return if this box is empty
+   * @return inner value, or the supplied value if empty
+   */
+
+  public int orElseGet(IntSupplier supplier) {
+    return this.present ? this.value : supplier.getAsInt();
+  }
+
+  /**
+   * @return if this box is empty
+   */
+
+  public boolean isEmpty() {
+    return !this.present;
+  }
+
+  /**
+   * @return if this box is not empty
+   */
+
+  public boolean isNotEmpty() {
+    return this.present;
+  }
+
+  /**
+   * @param selector - predicate to determine if inner value should be retained
+   * @return this box, or empty
+   */
+
+  public BoxedInt filter(IntPredicate selector) {
+    if (this.present && selector.test(this.value)) {
+      return this;
+    }
+    return EMPTY;
+  }
+
+  /**
+   * @param function - to execute on the inner value
+   * @return new instance with either new value or empty
+   */
+
+  public BoxedInt map(IntUnaryOperator function) {
+    if (this.present) {
+      return new BoxedInt(true, function.applyAsInt(this.value));
+    }
+    return EMPTY;
+  }
+
+  /**
+   * @param function - to execute on inner value,
+   * @param alternative - value to retain if no current valid inner value
+   * @return new instance with either new value or alternative
+   */
+
+  public BoxedInt map(IntUnaryOperator function, IntSupplier alternative) {
+    return this.map(v -> true, function, alternative);
+  }
+
+  /**
+   * @param selector - to determine if current inner value valid,
+   * @param function - to execute on that inner value
+   * @return new instance with either new value or empty
+   */
+
+  public BoxedInt map(IntPredicate selector, IntUnaryOperator function) {
+    return this.map(selector, function, null);
+  }
+
+  /**
+   * @param selector - to determine if current inner value valid,
+   * @param function - to execute on that inner value
+   * @param supplier - of alternative if method cannot be called
+   * @return new instance with either new value or empty
+   */
+
+  public BoxedInt map(IntPredicate selector, IntUnaryOperator function, IntSupplier supplier) {
+    if (this.present && selector.test(this.value)) {
+      return new BoxedInt(true, function.applyAsInt(this.value));
+    } else if (Objects.nonNull(supplier)) {
+      return new BoxedInt(true, supplier.getAsInt());
+    }
+    return EMPTY;
+  }
+
+  /**
+   * @param function to execute on inner value
+   * @return box returned by the function, or empty
+   */
+
+  public BoxedInt flatmap(IntFunction<BoxedInt> function) {
+    if (this.present) {
+      BoxedInt next = function.apply(this.value);
+      if (Objects.nonNull(next)) {
+        return next;
+      }
+    }
+    return EMPTY;
+  }
+
+  /**
+   * @param selector - to determine if current inner value is valid
+   * @param alternative - to supply alternative value if it is not valid
+   * @return this box, or new instance with the alternative
+   */
+
+  public BoxedInt or(IntPredicate selector, IntSupplier alternative) {
+    if (this.present && selector.test(this.value)) {
+      return this;
+    }
+    return new BoxedInt(true, alternative.getAsInt());
+  }
+
+  /**
+   * @param <R> - the returned inner type
+   * @param function - to execute on the inner value
+   * @return new instance of Boxed with either new value or empty
+   */
+
+  public <R> Boxed<R> mapToObj(IntFunction<R> function) {
+    if (this.present) {
+      return Boxed.of(function.apply(this.value));
+    }
+    return Boxed.empty();
+  }
+
+  /**
+   * @return the inner value as a reference Boxed
+   */
+
+  public Boxed<Integer> boxed() {
+    return this.mapToObj(v -> v);
+  }
+
+}
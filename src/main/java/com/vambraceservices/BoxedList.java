@@ -1,7 +1,26 @@
 package com.vambraceservices;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -12,14 +31,22 @@ import java.util.stream.Stream;
 
 public class BoxedList<L> {
 
+  private static final BoxedList<?> EMPTY = new BoxedList<>(null);
+
   private Collection<L> listValue;
 
+  private volatile Map<String, Object[]> indexes;
+
   /**
+   * Lists are wrapped with Collections.unmodifiableList so RandomAccess is kept
+   *
    * @param lv - value to be stored
    */
 
   BoxedList(Collection<L> lv) {
-    if (Objects.nonNull(lv)) {
+    if (lv instanceof List) {
+      this.listValue = Collections.unmodifiableList((List<L>) lv);
+    } else if (Objects.nonNull(lv)) {
       this.listValue = Collections.unmodifiableCollection(lv);
     }
   }
@@ -34,6 +61,110 @@ public class BoxedList<L> {
     return new BoxedList<>(lv);
   }
 
+  /**
+   * @param <L> - type of stored value
+   * @return the shared empty list
+   */
+
+  @SuppressWarnings("unchecked")
+  public static <L> BoxedList<L> empty() {
+    return (BoxedList<L>) EMPTY;
+  }
+
+  /**
+   * @param <L> - type of stored value
+   * @return new builder that many threads can add to at once
+   */
+
+  public static <L> ConcurrentBoxedListBuilder<L> concurrentBuilder() {
+    return new ConcurrentBoxedListBuilder<>();
+  }
+
+  /**
+   * Items from one thread keep their order; the order between threads is not defined
+   *
+   * @param <L> - type of stored value
+   * @return CONCURRENT and UNORDERED collector into a BoxedList
+   */
+
+  public static <L> Collector<L, ?, BoxedList<L>> concurrentCollector() {
+    return ConcurrentBoxedListBuilder.collector();
+  }
+
+  /**
+   * Items are pulled one at a time by the first terminal operation, which
+   * consumes the iterator. Later terminal operations throw IllegalStateException
+   *
+   * @param <L> - type of stored value
+   * @param source - items to pull
+   * @return new list streaming from the iterator
+   */
+
+  public static <L> BoxedList<L> streaming(Iterator<L> source) {
+    if (Objects.isNull(source)) {
+      return empty();
+    }
+    return new StreamingBoxedList<>(source);
+  }
+
+  /**
+   * @param <L> - type of stored value
+   * @param source - items to pull
+   * @return new list streaming from the spliterator
+   * @see #streaming(Iterator)
+   */
+
+  public static <L> BoxedList<L> streaming(Spliterator<L> source) {
+    if (Objects.isNull(source)) {
+      return empty();
+    }
+    return new StreamingBoxedList<>(Spliterators.iterator(source));
+  }
+
+  /**
+   * @param <L> - type of stored value
+   * @param source - publisher subscribed to by the first terminal operation
+   * @return new list streaming from the publisher, with a buffer of 256 items
+   * @see #streaming(Flow.Publisher, int)
+   */
+
+  public static <L> BoxedList<L> streaming(Flow.Publisher<L> source) {
+    return streaming(source, 256);
+  }
+
+  /**
+   * Items are requested from the publisher only as they are consumed, so no more
+   * than bufferSize items are held. Stopping early, as limit does, cancels the
+   * subscription. Errors are rethrown to the consumer as CompletionException
+   *
+   * @param <L> - type of stored value
+   * @param source - publisher subscribed to by the first terminal operation
+   * @param bufferSize - the most items requested ahead of the consumer
+   * @return new list streaming from the publisher
+   */
+
+  public static <L> BoxedList<L> streaming(Flow.Publisher<L> source, int bufferSize) {
+    if (Objects.isNull(source)) {
+      return empty();
+    }
+    return new StreamingBoxedList<>(new PublisherIterator<>(source, bufferSize));
+  }
+
+  /**
+   * Items are decoded on demand. Fixed width items have constant time size and
+   * random access; variable width files are scanned once for item positions
+   *
+   * @param <L> - type of stored value
+   * @param path - file written by save, with the same codec
+   * @param codec - decodes each item
+   * @return new list backed by the memory mapped file, to be unmapped by close
+   * @throws IOException if the file cannot be mapped, or is not in the codec's layout
+   */
+
+  public static <L> OffHeapBoxedList<L> mapped(Path path, BoxedCodec<L> codec) throws IOException {
+    return OffHeapBoxedList.mapped(path, codec);
+  }
+
   /**
    * @return if this list is instantiated, and has items
    */
@@ -52,7 +183,10 @@ public class BoxedList<L> {
 
   public Optional<L> first() {
     if (this.isNotEmpty()) {
-      return this.listValue.stream().findFirst();
+      if (this.listValue instanceof List) {
+        return Optional.ofNullable(((List<L>) this.listValue).get(0));
+      }
+      return Optional.ofNullable(this.listValue.iterator().next());
     }
     return Optional.empty();
   }
@@ -62,7 +196,49 @@ public class BoxedList<L> {
    */
 
   public List<L> get() {
-    return this.get(ArrayList::new);
+    return this.copy();
+  }
+
+  /**
+   * Unlike get, does not copy when the stored value is a list.
+   * The returned list keeps RandomAccess of the stored list.
+   *
+   * @return either an unmodifiable view of the list, or an empty list
+   */
+
+  public List<L> view() {
+    if (this.isEmpty()) {
+      return Collections.emptyList();
+    }
+    if (this.listValue instanceof List) {
+      return (List<L>) this.listValue;
+    }
+    return Collections.unmodifiableList(new ArrayList<>(this.listValue));
+  }
+
+  /**
+   * @return either a presized copy of the list, or an empty list
+   */
+
+  public List<L> copy() {
+    if (this.isNotEmpty()) {
+      return new ArrayList<>(this.listValue);
+    }
+    return Collections.emptyList();
+  }
+
+  /**
+   * @param builder - creates the list, given the required capacity
+   * @return either a presized copy of the list, or an empty list
+   */
+
+  public List<L> copy(IntFunction<List<L>> builder) {
+    if (this.isNotEmpty()) {
+      List<L> list = builder.apply(this.listValue.size());
+      list.addAll(this.listValue);
+      return list;
+    }
+    return Collections.emptyList();
   }
 
   public List<L> get(Supplier<List<L>> builder) {
@@ -96,4 +272,615 @@ public class BoxedList<L> {
     return Stream.empty();
   }
 
+  /**
+   * Lazy. The function is called once a terminal operation runs
+   *
+   * @param <R> - the returned inner type
+   * @param function - to execute on each item
+   * @return new list of the function's values
+   */
+
+  public <R> BoxedList<R> map(Function<L, R> function) {
+    return this.then(downstream -> item -> downstream.push(function.apply(item)));
+  }
+
+  /**
+   * Lazy. The selector is called once a terminal operation runs
+   *
+   * @param selector - predicate to determine if an item should be retained
+   * @return new list of the retained items
+   */
+
+  public BoxedList<L> filter(Predicate<L> selector) {
+    return this.then(downstream -> item -> !selector.test(item) || downstream.push(item));
+  }
+
+  /**
+   * Lazy. The function is called once a terminal operation runs
+   *
+   * @param <R> - the returned inner type
+   * @param function - returns a list for each item
+   * @return new list of all items of the returned lists
+   */
+
+  public <R> BoxedList<R> flatMap(Function<L, BoxedList<R>> function) {
+    return this.then(downstream -> item -> {
+      BoxedList<R> inner = function.apply(item);
+      return Objects.isNull(inner) || inner.traverse(downstream);
+    });
+  }
+
+  /**
+   * Lazy. Traversal stops once enough items have been retained
+   *
+   * @param maxSize - the number of items to retain
+   * @return new list of at most maxSize items
+   */
+
+  public BoxedList<L> limit(long maxSize) {
+    if (maxSize < 0) {
+      throw new IllegalArgumentException(Long.toString(maxSize));
+    }
+    return this.then(downstream -> new Sink<L>() {
+      private long count;
+
+      @Override
+      public boolean push(L item) {
+        if (count >= maxSize) {
+          return false;
+        }
+        count++;
+        return downstream.push(item) && count < maxSize;
+      }
+    });
+  }
+
+  /**
+   * Lazy. Items are compared with equals, and the first occurrence is kept
+   *
+   * @return new list of distinct items
+   */
+
+  public BoxedList<L> distinct() {
+    return this.then(downstream -> {
+      Set<L> seen = new HashSet<>();
+      return item -> !seen.add(item) || downstream.push(item);
+    });
+  }
+
+  /**
+   * Lazy. Random access lists are split into unmodifiable sub list views
+   * without copying
+   *
+   * @param size - the number of items in each batch
+   * @return new list of consecutive batches, the last of which may be smaller
+   */
+
+  public BoxedList<List<L>> batches(int size) {
+    return new BatchedBoxedList<>(this, size, size, true);
+  }
+
+  /**
+   * Lazy. Random access lists are split into unmodifiable sub list views
+   * without copying
+   *
+   * @param size - the number of items in each window
+   * @param step - the number of items between the start of each window
+   * @return new list of windows, only those with exactly size items
+   */
+
+  public BoxedList<List<L>> windows(int size, int step) {
+    return new BatchedBoxedList<>(this, size, step, false);
+  }
+
+  /**
+   * @param size - the number of items in each batch
+   * @param consumer - accepts each batch in order
+   */
+
+  public void forEachBatch(int size, Consumer<List<L>> consumer) {
+    this.batches(size).traverse(batch -> {
+      consumer.accept(batch);
+      return true;
+    });
+  }
+
+  /**
+   * Runs batches on the default executor.
+   * Blocks while maxInFlight batches are running
+   *
+   * @param size - the number of items in each batch
+   * @param maxInFlight - the most batches running at once
+   * @param consumer - accepts each batch
+   * @return future completing once all batches are done, or with the first failure
+   */
+
+  public CompletableFuture<Void> forEachBatchAsync(int size, int maxInFlight, Consumer<List<L>> consumer) {
+    return this.forEachBatchAsync(size, maxInFlight, consumer, DefaultExecutor.get());
+  }
+
+  /**
+   * Blocks while maxInFlight batches are running. No further batches are started
+   * after one fails
+   *
+   * @param size - the number of items in each batch
+   * @param maxInFlight - the most batches running at once
+   * @param consumer - accepts each batch
+   * @param executor - runs each batch
+   * @return future completing once all batches are done, or with the first failure
+   */
+
+  public CompletableFuture<Void> forEachBatchAsync(int size, int maxInFlight, Consumer<List<L>> consumer,
+                                                   Executor executor) {
+    if (maxInFlight < 1) {
+      throw new IllegalArgumentException(Integer.toString(maxInFlight));
+    }
+    Semaphore permits = new Semaphore(maxInFlight);
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+    List<CompletableFuture<Void>> running = new ArrayList<>();
+    this.batches(size).traverse(batch -> {
+      try {
+        permits.acquire();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        failure.compareAndSet(null, e);
+        return false;
+      }
+      if (Objects.nonNull(failure.get())) {
+        permits.release();
+        return false;
+      }
+      running.add(CompletableFuture.runAsync(() -> consumer.accept(batch), executor)
+                                   .whenComplete((done, error) -> {
+                                     if (Objects.nonNull(error)) {
+                                       failure.compareAndSet(null, error);
+                                     }
+                                     permits.release();
+                                   }));
+      return true;
+    });
+    CompletableFuture<Void> all = CompletableFuture.allOf(running.toArray(new CompletableFuture<?>[0]));
+    return all.thenCompose(done -> {
+      Throwable error = failure.get();
+      if (Objects.nonNull(error)) {
+        CompletableFuture<Void> failed = new CompletableFuture<>();
+        failed.completeExceptionally(error);
+        return failed;
+      }
+      return CompletableFuture.<Void>completedFuture(null);
+    });
+  }
+
+  /**
+   * The index is built on first use, and cached on this list until an index
+   * of the same kind is asked for with a different key function instance, so
+   * reuse the same function to reuse the index
+   *
+   * @param <K> - the key type
+   * @param key - returns the key of each item
+   * @return read only index of items by key
+   */
+
+  @SuppressWarnings("unchecked")
+  public <K> BoxedIndex<K, L> indexBy(Function<L, K> key) {
+    return (BoxedIndex<K, L>) this.index("multi", key, () -> new BoxedIndex<>(this, key));
+  }
+
+  /**
+   * The index is built on first use, and cached on this list until an index
+   * of the same kind is asked for with a different key function instance, so
+   * reuse the same function to reuse the index
+   *
+   * @param <K> - the key type
+   * @param key - returns the key of each item, unique to the item
+   * @return read only index of each item by key
+   */
+
+  @SuppressWarnings("unchecked")
+  public <K> UniqueBoxedIndex<K, L> uniqueIndexBy(Function<L, K> key) {
+    return (UniqueBoxedIndex<K, L>) this.index("unique", key, () -> new UniqueBoxedIndex<>(this, key));
+  }
+
+  /**
+   * The index is built on first use, and cached on this list until an index
+   * of the same kind is asked for with a different key function instance, so
+   * reuse the same function to reuse the index
+   *
+   * @param key - returns the primitive key of each item
+   * @return read only index of items by key
+   */
+
+  @SuppressWarnings("unchecked")
+  public IntBoxedIndex<L> indexByInt(ToIntFunction<L> key) {
+    return (IntBoxedIndex<L>) this.index("int", key, () -> new IntBoxedIndex<>(this, key));
+  }
+
+  private Object index(String kind, Object key, Supplier<Object> factory) {
+    if (this == EMPTY) {
+      return factory.get();
+    }
+    Map<String, Object[]> current = this.indexes;
+    if (Objects.isNull(current)) {
+      synchronized (this) {
+        current = this.indexes;
+        if (Objects.isNull(current)) {
+          current = new ConcurrentHashMap<>();
+          this.indexes = current;
+        }
+      }
+    }
+    // one entry of key function and index per kind, so indexes for discarded functions are not kept
+    return current.compute(kind, (k, cached) -> Objects.nonNull(cached) && cached[0] == key
+        ? cached : new Object[] {key, factory.get()})[1];
+  }
+
+  /**
+   * @param identity - starting value, and result if the list is empty
+   * @param accumulator - combines the current result with the next item
+   * @return the reduced value
+   */
+
+  public L reduce(L identity, BinaryOperator<L> accumulator) {
+    Reduction<L> reduction = new Reduction<>(accumulator);
+    reduction.accept(identity);
+    this.traverse(reduction);
+    return reduction.result;
+  }
+
+  /**
+   * @param accumulator - combines the current result with the next item
+   * @return the reduced value, or empty if the list is empty
+   */
+
+  public Boxed<L> reduce(BinaryOperator<L> accumulator) {
+    Reduction<L> reduction = new Reduction<>(accumulator);
+    this.traverse(reduction);
+    return Boxed.of(reduction.result);
+  }
+
+  /**
+   * @return persistent list of the items, supporting cheap with, set, concat and slice
+   */
+
+  public PersistentBoxedList<L> toPersistent() {
+    List<L> items = this.view();
+    if (items.isEmpty()) {
+      return PersistentBoxedList.empty();
+    }
+    return PersistentBoxedList.copyOf(items);
+  }
+
+  /**
+   * Eager. Encodes items into direct memory, to be released by close
+   *
+   * @param codec - encodes and decodes each item
+   * @return new off heap list holding the encoded items
+   * @throws NullPointerException if any item is null
+   */
+
+  public OffHeapBoxedList<L> offHeap(BoxedCodec<L> codec) {
+    return OffHeapBoxedList.of(this.view(), codec);
+  }
+
+  /**
+   * Writes items in the layout read by mapped
+   *
+   * @param path - file to create or replace
+   * @param codec - encodes each item
+   * @throws IOException if the file cannot be written
+   * @throws NullPointerException if any item is null
+   */
+
+  public void save(Path path, BoxedCodec<L> codec) throws IOException {
+    OffHeapBoxedList.save(this.view(), codec, path);
+  }
+
+  /**
+   * Eager. Converts items into a primitive array backed list
+   *
+   * @param function - converts each item to a primitive
+   * @return new list of the function's values
+   */
+
+  public IntBoxedList mapToInt(ToIntFunction<L> function) {
+    List<L> items = this.view();
+    int[] values = new int[items.size()];
+    int index = 0;
+    for (L item : items) {
+      values[index++] = function.applyAsInt(item);
+    }
+    return IntBoxedList.wrap(values);
+  }
+
+  /**
+   * Eager. Converts items into a primitive array backed list
+   *
+   * @param function - converts each item to a primitive
+   * @return new list of the function's values
+   */
+
+  public LongBoxedList mapToLong(ToLongFunction<L> function) {
+    List<L> items = this.view();
+    long[] values = new long[items.size()];
+    int index = 0;
+    for (L item : items) {
+      values[index++] = function.applyAsLong(item);
+    }
+    return LongBoxedList.wrap(values);
+  }
+
+  /**
+   * Eager. Converts items into a primitive array backed list
+   *
+   * @param function - converts each item to a primitive
+   * @return new list of the function's values
+   */
+
+  public DoubleBoxedList mapToDouble(ToDoubleFunction<L> function) {
+    List<L> items = this.view();
+    double[] values = new double[items.size()];
+    int index = 0;
+    for (L item : items) {
+      values[index++] = function.applyAsDouble(item);
+    }
+    return DoubleBoxedList.wrap(values);
+  }
+
+  /**
+   * Eager. Maps items in parallel on the common pool, keeping encounter order
+   *
+   * @param <R> - the returned inner type
+   * @param function - to execute on each item
+   * @return new list of the function's values
+   */
+
+  public <R> BoxedList<R> parallelMap(Function<L, R> function) {
+    List<L> source = this.view();
+    return parallelMap(source, function, defaultGrain(source.size(), ForkJoinPool.commonPool()),
+                       ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Eager. Maps items in parallel on the common pool, keeping encounter order
+   *
+   * @param <R> - the returned inner type
+   * @param function - to execute on each item
+   * @param grain - the minimum number of items mapped by one task
+   * @return new list of the function's values
+   */
+
+  public <R> BoxedList<R> parallelMap(Function<L, R> function, int grain) {
+    return this.parallelMap(function, grain, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Eager. Maps items in parallel, keeping encounter order.
+   * Random access lists are split by index without copying
+   *
+   * @param <R> - the returned inner type
+   * @param function - to execute on each item
+   * @param grain - the minimum number of items mapped by one task
+   * @param pool - runs the tasks
+   * @return new list of the function's values
+   */
+
+  public <R> BoxedList<R> parallelMap(Function<L, R> function, int grain, ForkJoinPool pool) {
+    if (grain < 1) {
+      throw new IllegalArgumentException(Integer.toString(grain));
+    }
+    return parallelMap(this.view(), function, grain, pool);
+  }
+
+  /**
+   * @param source - items, read once; operators of lazy lists have already run
+   */
+
+  @SuppressWarnings("unchecked")
+  private static <L, R> BoxedList<R> parallelMap(List<L> source, Function<L, R> function, int grain,
+                                                 ForkJoinPool pool) {
+    if (source.isEmpty()) {
+      return empty();
+    }
+    if (!(source instanceof RandomAccess)) {
+      source = new ArrayList<>(source);
+    }
+    Object[] results = new Object[source.size()];
+    pool.invoke(new ParallelMapTask<>(source, results, function, grain, 0, results.length));
+    return new BoxedList<>(Arrays.asList((R[]) results));
+  }
+
+  /**
+   * Eager. Keeps the n items that sort first in a bounded heap, without
+   * sorting the whole list
+   *
+   * @param n - the number of items to keep
+   * @param comparator - orders the items
+   * @return new list of at most n items, in comparator order
+   */
+
+  public BoxedList<L> topK(int n, Comparator<L> comparator) {
+    if (n < 0) {
+      throw new IllegalArgumentException(Integer.toString(n));
+    }
+    if (n == 0) {
+      return empty();
+    }
+    PriorityQueue<L> heap = new PriorityQueue<>(Math.min(n, Math.max(1, this.estimateSize())) + 1,
+                                                comparator.reversed());
+    this.traverse(item -> {
+      if (heap.size() < n) {
+        heap.add(item);
+      } else if (comparator.compare(item, heap.peek()) < 0) {
+        heap.poll();
+        heap.add(item);
+      }
+      return true;
+    });
+    if (heap.isEmpty()) {
+      return empty();
+    }
+    List<L> kept = new ArrayList<>(heap);
+    kept.sort(comparator);
+    return new BoxedList<>(kept);
+  }
+
+  /**
+   * Eager. Sorts a copy of the items in parallel on the common pool. The sort is stable
+   *
+   * @param comparator - orders the items
+   * @return new list of the items in comparator order
+   */
+
+  @SuppressWarnings("unchecked")
+  public BoxedList<L> sorted(Comparator<L> comparator) {
+    List<L> items = this.view();
+    if (items.isEmpty()) {
+      return empty();
+    }
+    L[] array = (L[]) items.toArray();
+    Arrays.parallelSort(array, comparator);
+    return new BoxedList<>(Arrays.asList(array));
+  }
+
+  /**
+   * Eager. Groups in parallel on the common pool into partial maps, which are
+   * merged at the end. Each key's items are collected in encounter order
+   *
+   * @param <K> - the key type
+   * @param <A> - the downstream container type
+   * @param <D> - the downstream result type
+   * @param key - returns the key of each item
+   * @param downstream - collects the items of each key
+   * @return new unmodifiable map of each key's collected result
+   */
+
+  public <K, A, D> Map<K, D> groupBy(Function<L, K> key, Collector<L, A, D> downstream) {
+    return this.groupBy(key, downstream, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * @param <K> - the key type
+   * @param <A> - the downstream container type
+   * @param <D> - the downstream result type
+   * @param key - returns the key of each item
+   * @param downstream - collects the items of each key
+   * @param pool - runs the grouping tasks
+   * @return new unmodifiable map of each key's collected result
+   * @see #groupBy(Function, Collector)
+   */
+
+  @SuppressWarnings("unchecked")
+  public <K, A, D> Map<K, D> groupBy(Function<L, K> key, Collector<L, A, D> downstream, ForkJoinPool pool) {
+    List<L> items = this.view();
+    if (items.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    if (!(items instanceof RandomAccess)) {
+      items = new ArrayList<>(items);
+    }
+    Map<K, A> grouped = pool.invoke(new ParallelGroupTask<>(items, key, downstream, defaultGrain(items.size(), pool),
+                                                            0, items.size()));
+    if (downstream.characteristics().contains(Collector.Characteristics.IDENTITY_FINISH)) {
+      return Collections.unmodifiableMap((Map<K, D>) grouped);
+    }
+    Map<K, D> finished = new HashMap<>((int) (grouped.size() / 0.75f) + 1);
+    grouped.forEach((k, container) -> finished.put(k, downstream.finisher().apply(container)));
+    return Collections.unmodifiableMap(finished);
+  }
+
+  /**
+   * @param <K> - the key type
+   * @param key - returns the key of each item
+   * @return new unmodifiable map of the number of items with each key
+   * @see #groupBy(Function, Collector)
+   */
+
+  public <K> Map<K, Long> countBy(Function<L, K> key) {
+    return this.groupBy(key, Collectors.counting());
+  }
+
+  private static int defaultGrain(int size, ForkJoinPool pool) {
+    return Math.max(1, size / (pool.getParallelism() * 4));
+  }
+
+  /**
+   * @param <R> - the returned inner type
+   * @param operator - wraps the downstream sink with an operation
+   * @return new list applying the operation lazily
+   */
+
+  <R> BoxedList<R> then(Function<Sink<R>, Sink<L>> operator) {
+    return new FusedBoxedList<>(this, operator);
+  }
+
+  /**
+   * @return if view is random access without copying or traversing
+   */
+
+  boolean isRandomAccess() {
+    return this.listValue instanceof RandomAccess;
+  }
+
+  /**
+   * @return number of items, or a guess where counting requires a traversal
+   */
+
+  int estimateSize() {
+    return this.size();
+  }
+
+  /**
+   * @param sink - receives each item in encounter order
+   * @return false if the sink stopped the traversal early
+   */
+
+  boolean traverse(Sink<L> sink) {
+    if (this.isNotEmpty()) {
+      for (L item : this.listValue) {
+        if (!sink.push(item)) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Receives items pushed through a fused chain of operations
+   *
+   * @param <T> received type
+   */
+
+  interface Sink<T> {
+
+    /**
+     * @param item - the next item
+     * @return true if more items are wanted
+     */
+
+    boolean push(T item);
+  }
+
+  private static final class Reduction<T> implements Sink<T> {
+
+    private final BinaryOperator<T> accumulator;
+    private boolean                 started;
+    private T                       result;
+
+    private Reduction(BinaryOperator<T> accumulator) {
+      this.accumulator = accumulator;
+    }
+
+    private void accept(T item) {
+      this.result = this.started ? this.accumulator.apply(this.result, item) : item;
+      this.started = true;
+    }
+
+    @Override
+    public boolean push(T item) {
+      this.accept(item);
+      return true;
+    }
+  }
+
 }
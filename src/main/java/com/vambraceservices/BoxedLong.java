@@ -0,0 +1,238 @@
+package com.vambraceservices;
+
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * The BoxedLong class
+ *
+ * Primitive long specialization of Boxed. Presence is held in a flag rather
+ * than a null reference, so no value is ever autoboxed.
+ */
+
+public final class BoxedLong {
+
+  private static final BoxedLong EMPTY = new BoxedLong(false, 0L);
+
+  private final boolean present;
+  private final long    value;
+
+  private BoxedLong(boolean present, long seed) {
+    this.present = present;
+    this.value = seed;
+  }
+
+  /**
+   * @param seed - the supplied value boxed
+   * @return new boxed instance containing value
+   */
+
+  public static BoxedLong of(long seed) {
+    return new BoxedLong(true, seed);
+  }
+
+  /**
+   * @param seed - the supplied value, possibly null
+   * @return new boxed instance containing value, or empty if null
+   */
+
+  public static BoxedLong of(Long seed) {
+    if (Objects.isNull(seed)) {
+      return EMPTY;
+    }
+    return new BoxedLong(true, seed);
+  }
+
+  /**
+   * @return the shared empty box
+   */
+
+  public static BoxedLong empty() {
+    return EMPTY;
+  }
+
+  /**
+   * @param supplier - provides inner value to be stored
+   * @return the supplier's returned value boxed.
+   */
+
+  public static BoxedLong from(LongSupplier supplier) {
+    if (Objects.isNull(supplier)) {
+      return EMPTY;
+    }
+    return new BoxedLong(true, supplier.getAsLong());
+  }
+
+  /**
+   * @param consumer - accepts inner value to be called if inner value is valid
+   * @return itself
+   */
+
+  public BoxedLong peek(LongConsumer consumer) {
+    if (this.present) {
+      consumer.accept(this.value);
+    }
+    return this;
+  }
+
+  /**
+   * Return inner value as optional
+   * @return inner value wrapped in OptionalLong
+   */
+
+  public OptionalLong get() {
+    if (this.present) {
+      return OptionalLong.of(this.value);
+    }
+    return OptionalLong.empty();
+  }
+
+  /**
+   * @param other - value to return if this box is empty
+   * @return inner value, or other if empty
+   */
+
+  public long orElse(long other) {
+    return this.present ? this.value : other;
+  }
+
+  /**
+   * @param supplier - provides value to return if this box is empty
+   * @return inner value, or the supplied value if empty
+   */
+
+  public long orElseGet(LongSupplier supplier) {
+    return this.present ? this.value : supplier.getAsLong();
+  }
+
+  /**
+   * @return if this box is empty
+   */
+
+  public boolean isEmpty() {
+    return !this.present;
+  }
+
+  /**
+   * @return if this box is not empty
+   */
+
+  public boolean isNotEmpty() {
+    return this.present;
+  }
+
+  /**
+   * @param selector - predicate to determine if inner value should be retained
+   * @return this box, or empty
+   */
+
+  public BoxedLong filter(LongPredicate selector) {
+    if (this.present && selector.test(this.value)) {
+      return this;
+    }
+    return EMPTY;
+  }
+
+  /**
+   * @param function - to execute on the inner value
+   * @return new instance with either new value or empty
+   */
+
+  public BoxedLong map(LongUnaryOperator function) {
+    if (this.present) {
+      return new BoxedLong(true, function.applyAsLong(this.value));
+    }
+    return EMPTY;
+  }
+
+  /**
+   * @param function - to execute on inner value,
+   * @param alternative - value to retain if no current valid inner value
+   * @return new instance with either new value or alternative
+   */
+
+  public BoxedLong map(LongUnaryOperator function, LongSupplier alternative) {
+    return this.map(v -> true, function, alternative);
+  }
+
+  /**
+   * @param selector - to determine if current inner value valid,
+   * @param function - to execute on that inner value
+   * @return new instance with either new value or empty
+   */
+
+  public BoxedLong map(LongPredicate selector, LongUnaryOperator function) {
+    return this.map(selector, function, null);
+  }
+
+  /**
+   * @param selector - to determine if current inner value valid,
+   * @param function - to execute on that inner value
+   * @param supplier - of alternative if method cannot be called
+   * @return new instance with either new value or empty
+   */
+
+  public BoxedLong map(LongPredicate selector, LongUnaryOperator function, LongSupplier supplier) {
+    if (this.present && selector.test(this.value)) {
+      return new BoxedLong(true, function.applyAsLong(this.value));
+    } else if (Objects.nonNull(supplier)) {
+      return new BoxedLong(true, supplier.getAsLong());
+    }
+    return EMPTY;
+  }
+
+  /**
+   * @param function to execute on inner value
+   * @return box returned by the function, or empty
+   */
+
+  public BoxedLong flatmap(LongFunction<BoxedLong> function) {
+    if (this.present) {
+      BoxedLong next = function.apply(this.value);
+      if (Objects.nonNull(next)) {
+        return next;
+      }
+    }
+    return EMPTY;
+  }
+
+  /**
+   * @param selector - to determine if current inner value is valid
+   * @param alternative - to supply alternative value if it is not valid
+   * @return this box, or new instance with the alternative
+   */
+
+  public BoxedLong or(LongPredicate selector, LongSupplier alternative) {
+    if (this.present && selector.test(this.value)) {
+      return this;
+    }
+    return new BoxedLong(true, alternative.getAsLong());
+  }
+
+  /**
+   * @param <R> - the returned inner type
+   * @param function - to execute on the inner value
+   * @return new instance of Boxed with either new value or empty
+   */
+
+  public <R> Boxed<R> mapToObj(LongFunction<R> function) {
+    if (this.present) {
+      return Boxed.of(function.apply(this.value));
+    }
+    return Boxed.empty();
+  }
+
+  /**
+   * @return the inner value as a reference Boxed
+   */
+
+  public Boxed<Long> boxed() {
+    return this.mapToObj(v -> v);
+  }
+
+}
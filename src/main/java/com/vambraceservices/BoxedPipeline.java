@@ -0,0 +1,202 @@
+package com.vambraceservices;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * The BoxedPipeline class
+ *
+ * Records Boxed steps once and fuses them into a single function, which can
+ * then be applied to many seeds without creating intermediate boxes.
+ * A null between steps represents an empty box.
+ *
+ * @param <T> seed type
+ * @param <R> result type
+ */
+
+public final class BoxedPipeline<T, R> {
+
+  private final Function<T, R> fused;
+
+  /**
+   * @param fn - fused function of all recorded steps
+   */
+
+  private BoxedPipeline(Function<T, R> fn) {
+    this.fused = fn;
+  }
+
+  /**
+   * @param <T> - the seed type
+   * @return new pipeline with no steps
+   */
+
+  static <T> BoxedPipeline<T, T> identity() {
+    return new BoxedPipeline<>(v -> v);
+  }
+
+  /**
+   * @param selector - predicate to determine if value should be retained
+   * @return new pipeline with the step appended
+   */
+
+  public BoxedPipeline<T, R> filter(Predicate<R> selector) {
+    final Function<T, R> previous = this.fused;
+    return new BoxedPipeline<>(v -> {
+      R current = previous.apply(v);
+      if (Objects.nonNull(current) && selector.test(current)) {
+        return current;
+      }
+      return null;
+    });
+  }
+
+  /**
+   * @param <N> - the returned inner type
+   * @param function - to execute on the value
+   * @return new pipeline with the step appended
+   */
+
+  public <N> BoxedPipeline<T, N> map(Function<R, N> function) {
+    final Function<T, R> previous = this.fused;
+    return new BoxedPipeline<>(v -> {
+      R current = previous.apply(v);
+      if (Objects.nonNull(current)) {
+        return function.apply(current);
+      }
+      return null;
+    });
+  }
+
+  /**
+   * @param <N> - the returned inner type
+   * @param selector - to determine if current value valid,
+   * @param function - to execute on that value
+   * @return new pipeline with the step appended
+   */
+
+  public <N> BoxedPipeline<T, N> map(Predicate<R> selector, Function<R, N> function) {
+    return this.map(selector, function, null);
+  }
+
+  /**
+   * @param <N> - the returned inner type
+   * @param selector - to determine if current value valid,
+   * @param function - to execute on that value
+   * @param supplier - of alternative if function cannot be called
+   * @return new pipeline with the step appended
+   */
+
+  public <N> BoxedPipeline<T, N> map(Predicate<R> selector, Function<R, N> function, Supplier<N> supplier) {
+    final Function<T, R> previous = this.fused;
+    return new BoxedPipeline<>(v -> {
+      R current = previous.apply(v);
+      if (Objects.nonNull(current) && selector.test(current)) {
+        return function.apply(current);
+      } else if (Objects.nonNull(supplier)) {
+        return supplier.get();
+      }
+      return null;
+    });
+  }
+
+  /**
+   * @param <N> - the returned inner type
+   * @param function - to execute on the value
+   * @return new pipeline with the step appended
+   */
+
+  public <N> BoxedPipeline<T, N> omap(Function<R, Optional<N>> function) {
+    final Function<T, R> previous = this.fused;
+    return new BoxedPipeline<>(v -> {
+      R current = previous.apply(v);
+      if (Objects.nonNull(current)) {
+        Optional<N> next = function.apply(current);
+        if (Objects.nonNull(next)) {
+          return next.orElse(null);
+        }
+      }
+      return null;
+    });
+  }
+
+  /**
+   * @param <N> - the returned inner type
+   * @param function - to execute on the value
+   * @return new pipeline with the step appended
+   */
+
+  public <N> BoxedPipeline<T, N> flatmap(Function<R, Boxed<N>> function) {
+    final Function<T, R> previous = this.fused;
+    return new BoxedPipeline<>(v -> {
+      R current = previous.apply(v);
+      if (Objects.nonNull(current)) {
+        Boxed<N> next = function.apply(current);
+        if (Objects.nonNull(next)) {
+          return next.orElse(null);
+        }
+      }
+      return null;
+    });
+  }
+
+  /**
+   * @param selector - to determine if current value is valid
+   * @param alternative - to supply alternative value if it is not valid
+   * @return new pipeline with the step appended
+   */
+
+  public BoxedPipeline<T, R> or(Predicate<R> selector, Supplier<R> alternative) {
+    final Function<T, R> previous = this.fused;
+    return new BoxedPipeline<>(v -> {
+      R current = previous.apply(v);
+      if (selector.test(current)) {
+        return current;
+      }
+      return alternative.get();
+    });
+  }
+
+  /**
+   * @return the fused function. Returns null where the pipeline would be empty
+   */
+
+  public Function<T, R> compile() {
+    return this.fused;
+  }
+
+  /**
+   * @param seed - value to run through the pipeline
+   * @return result boxed, or an empty box
+   */
+
+  public Boxed<R> apply(T seed) {
+    return Boxed.of(this.fused.apply(seed));
+  }
+
+  /**
+   * @param seeds - values to run through the pipeline
+   * @return non empty results in encounter order
+   */
+
+  public BoxedList<R> applyAll(Collection<T> seeds) {
+    if (Objects.isNull(seeds) || seeds.isEmpty()) {
+      return BoxedList.empty();
+    }
+    List<R> results = new ArrayList<>(seeds.size());
+    for (T seed : seeds) {
+      R result = this.fused.apply(seed);
+      if (Objects.nonNull(result)) {
+        results.add(result);
+      }
+    }
+    return new BoxedList<>(results);
+  }
+
+}
@@ -0,0 +1,64 @@
+package com.vambraceservices;
+
+import java.util.Arrays;
+
+/**
+ * A BoxedList over a sequence of arrays, each partly or wholly filled, which
+ * are read in place rather than copied into one.
+ *
+ * @param <L> stored type
+ */
+
+final class ChunkedBoxedList<L> extends IndexedBoxedList<L> {
+
+  private final Object[][] chunks;
+  private final int[]      starts;
+  private final int        size;
+
+  /**
+   * @param chunks - arrays of items, none empty
+   * @param lengths - number of items used in each array
+   */
+
+  ChunkedBoxedList(Object[][] chunks, int[] lengths) {
+    this.chunks = chunks;
+    this.starts = new int[chunks.length];
+    int total = 0;
+    for (int i = 0; i < chunks.length; i++) {
+      this.starts[i] = total;
+      total += lengths[i];
+    }
+    this.size = total;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public L get(int index) {
+    if (index < 0 || index >= this.size) {
+      throw new IndexOutOfBoundsException(Integer.toString(index));
+    }
+    int found = Arrays.binarySearch(this.starts, index);
+    int chunk = found >= 0 ? found : -found - 2;
+    return (L) this.chunks[chunk][index - this.starts[chunk]];
+  }
+
+  @Override
+  public int size() {
+    return this.size;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  boolean traverse(Sink<L> sink) {
+    for (int chunk = 0; chunk < this.chunks.length; chunk++) {
+      int length = (chunk + 1 < this.chunks.length ? this.starts[chunk + 1] : this.size) - this.starts[chunk];
+      for (int i = 0; i < length; i++) {
+        if (!sink.push((L) this.chunks[chunk][i])) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+}
@@ -0,0 +1,164 @@
+package com.vambraceservices;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * The ConcurrentBoxedListBuilder class
+ *
+ * Collects items from many threads into one BoxedList. Each thread appends to
+ * one of several stripes picked once per thread, so threads rarely contend. Stripes
+ * store items in blocks that are never moved, and build hands the blocks to
+ * the list without copying.
+ *
+ * Items from one thread keep their order; the order between threads is not defined.
+ *
+ * @param <L> stored type
+ */
+
+public final class ConcurrentBoxedListBuilder<L> {
+
+  private static final int FIRST_BLOCK = 16;
+  private static final int MAX_BLOCK   = 8192;
+
+  private static final AtomicInteger        NEXT_PROBE = new AtomicInteger();
+  private static final ThreadLocal<Integer> PROBE      =
+      ThreadLocal.withInitial(() -> NEXT_PROBE.getAndAdd(0x9E3779B9));
+
+  private final Stripe[] stripes;
+  private final int      mask;
+
+  /**
+   * Uses two stripes for every available processor, rounded up to a power of two
+   */
+
+  ConcurrentBoxedListBuilder() {
+    int count = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()) * 2 - 1) << 1;
+    this.stripes = new Stripe[count];
+    for (int i = 0; i < count; i++) {
+      this.stripes[i] = new Stripe();
+    }
+    this.mask = count - 1;
+  }
+
+  /**
+   * @param item - item to append
+   * @return itself
+   */
+
+  public ConcurrentBoxedListBuilder<L> add(L item) {
+    this.stripes[PROBE.get() & this.mask].add(item);
+    return this;
+  }
+
+  /**
+   * @param items - items to append, may be null
+   * @return itself
+   */
+
+  public ConcurrentBoxedListBuilder<L> addAll(Iterable<L> items) {
+    if (Objects.nonNull(items)) {
+      for (L item : items) {
+        this.add(item);
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Ends this builder; later adds throw IllegalStateException. Must only be
+   * called once every producing thread has finished adding
+   *
+   * @return list of all items added
+   */
+
+  public BoxedList<L> build() {
+    List<Object[]> blocks = new ArrayList<>();
+    List<Integer> lengths = new ArrayList<>();
+    for (Stripe stripe : this.stripes) {
+      synchronized (stripe) {
+        stripe.closed = true;
+        for (int i = 0; i < stripe.blocks.size(); i++) {
+          int length = i + 1 < stripe.blocks.size() ? stripe.blocks.get(i).length : stripe.used;
+          if (length > 0) {
+            blocks.add(stripe.blocks.get(i));
+            lengths.add(length);
+          }
+        }
+      }
+    }
+    if (blocks.isEmpty()) {
+      return BoxedList.empty();
+    }
+    int[] used = new int[lengths.size()];
+    for (int i = 0; i < used.length; i++) {
+      used[i] = lengths.get(i);
+    }
+    return new ChunkedBoxedList<>(blocks.toArray(new Object[0][]), used);
+  }
+
+  /**
+   * @param <L> - type of stored value
+   * @return CONCURRENT and UNORDERED collector into a BoxedList
+   */
+
+  static <L> Collector<L, ConcurrentBoxedListBuilder<L>, BoxedList<L>> collector() {
+    return new Collector<L, ConcurrentBoxedListBuilder<L>, BoxedList<L>>() {
+      @Override
+      public Supplier<ConcurrentBoxedListBuilder<L>> supplier() {
+        return ConcurrentBoxedListBuilder::new;
+      }
+
+      @Override
+      public BiConsumer<ConcurrentBoxedListBuilder<L>, L> accumulator() {
+        return ConcurrentBoxedListBuilder::add;
+      }
+
+      @Override
+      public BinaryOperator<ConcurrentBoxedListBuilder<L>> combiner() {
+        return (left, right) -> left.addAll(right.build().view());
+      }
+
+      @Override
+      public Function<ConcurrentBoxedListBuilder<L>, BoxedList<L>> finisher() {
+        return ConcurrentBoxedListBuilder::build;
+      }
+
+      @Override
+      public Set<Characteristics> characteristics() {
+        return Collections.unmodifiableSet(EnumSet.of(Characteristics.CONCURRENT, Characteristics.UNORDERED));
+      }
+    };
+  }
+
+  private static final class Stripe {
+
+    private final List<Object[]> blocks = new ArrayList<>();
+    private int                  used;
+    private boolean              closed;
+
+    private synchronized void add(Object item) {
+      if (this.closed) {
+        throw new IllegalStateException("builder has already been built");
+      }
+      Object[] current = this.blocks.isEmpty() ? null : this.blocks.get(this.blocks.size() - 1);
+      if (Objects.isNull(current) || this.used == current.length) {
+        current = new Object[Objects.isNull(current) ? FIRST_BLOCK : Math.min(current.length * 2, MAX_BLOCK)];
+        this.blocks.add(current);
+        this.used = 0;
+      }
+      current[this.used++] = item;
+    }
+  }
+
+}
@@ -0,0 +1,45 @@
+package com.vambraceservices;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Shared executor for asynchronous work.
+ *
+ * Uses a virtual thread per task executor when the runtime provides one,
+ * otherwise falls back to the common fork join pool, or a new thread per task
+ * when that pool has a single worker, as CompletableFuture does.
+ */
+
+final class DefaultExecutor {
+
+  private static final Executor INSTANCE = create();
+
+  private DefaultExecutor() {
+  }
+
+  /**
+   * @return the shared default executor
+   */
+
+  static Executor get() {
+    return INSTANCE;
+  }
+
+  private static Executor create() {
+    try {
+      return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      if (ForkJoinPool.getCommonPoolParallelism() > 1) {
+        return ForkJoinPool.commonPool();
+      }
+      return task -> {
+        Thread thread = new Thread(task);
+        thread.setDaemon(true);
+        thread.start();
+      };
+    }
+  }
+
+}
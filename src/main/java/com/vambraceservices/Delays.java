@@ -0,0 +1,66 @@
+package com.vambraceservices;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Shared timer for delayed async steps.
+ *
+ * Runs each task on the given executor once its delay has passed. Cancelled
+ * tasks are removed from the timer straight away, so they do not keep what
+ * they refer to alive until their delay would have passed.
+ */
+
+final class Delays {
+
+  private static final ScheduledThreadPoolExecutor TIMER = create();
+
+  private Delays() {
+  }
+
+  /**
+   * @param delayNanos - how long to wait
+   * @param executor - runs the task once the delay has passed
+   * @param task - task to run
+   * @param rejected - accepts the error if the task could not be scheduled or handed to the executor
+   * @return future that cancels the task if it has not started
+   */
+
+  static Future<?> schedule(long delayNanos, Executor executor, Runnable task, Consumer<RuntimeException> rejected) {
+    try {
+      return TIMER.schedule(() -> {
+        try {
+          executor.execute(task);
+        } catch (RuntimeException e) {
+          rejected.accept(e);
+        }
+      }, delayNanos, TimeUnit.NANOSECONDS);
+    } catch (RuntimeException e) {
+      rejected.accept(e);
+      return CompletableFuture.completedFuture(null);
+    }
+  }
+
+  /**
+   * @return tasks still waiting for their delay
+   */
+
+  static int pending() {
+    return TIMER.getQueue().size();
+  }
+
+  private static ScheduledThreadPoolExecutor create() {
+    ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, task -> {
+      Thread thread = new Thread(task, "vambrace-delays");
+      thread.setDaemon(true);
+      return thread;
+    });
+    timer.setRemoveOnCancelPolicy(true);
+    return timer;
+  }
+
+}
@@ -0,0 +1,230 @@
+package com.vambraceservices;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.stream.DoubleStream;
+
+/**
+ * The DoubleBoxedList class
+ *
+ * Primitive double sibling of BoxedList, backed by an array so items are not
+ * boxed. Contents are never modified after construction.
+ */
+
+public final class DoubleBoxedList {
+
+  private static final DoubleBoxedList EMPTY = new DoubleBoxedList(new double[0], true);
+
+  private final double[] values;
+  private final boolean  sorted;
+
+  /**
+   * @param values - array to store, not copied
+   * @param sorted - if the array is known to be in ascending order
+   */
+
+  private DoubleBoxedList(double[] values, boolean sorted) {
+    this.values = values;
+    this.sorted = sorted;
+  }
+
+  /**
+   * @param values - values to be stored, copied
+   * @return provided values stored in DoubleBoxedList
+   */
+
+  public static DoubleBoxedList of(double... values) {
+    if (Objects.isNull(values) || values.length == 0) {
+      return EMPTY;
+    }
+    return new DoubleBoxedList(values.clone(), false);
+  }
+
+  /**
+   * Takes ownership of the array, which must not be modified afterwards
+   *
+   * @param values - values to be stored, not copied
+   * @return provided values stored in DoubleBoxedList
+   */
+
+  static DoubleBoxedList wrap(double[] values) {
+    if (values.length == 0) {
+      return EMPTY;
+    }
+    return new DoubleBoxedList(values, false);
+  }
+
+  /**
+   * @return the shared empty list
+   */
+
+  public static DoubleBoxedList empty() {
+    return EMPTY;
+  }
+
+  /**
+   * @return if this list has no items
+   */
+
+  public boolean isEmpty() {
+    return this.values.length == 0;
+  }
+
+  public boolean isNotEmpty() {
+    return !isEmpty();
+  }
+
+  /**
+   * @return either the first item in the list, or an empty optional
+   */
+
+  public OptionalDouble first() {
+    if (this.isNotEmpty()) {
+      return OptionalDouble.of(this.values[0]);
+    }
+    return OptionalDouble.empty();
+  }
+
+  /**
+   * @return either a copy of the items, or an empty array
+   */
+
+  public double[] get() {
+    return this.values.clone();
+  }
+
+  /**
+   * @param index - position of the item
+   * @return the item at the index
+   */
+
+  public double get(int index) {
+    return this.values[index];
+  }
+
+  /**
+   * @return the number of items
+   */
+
+  public int size() {
+    return this.values.length;
+  }
+
+  /**
+   * @return stream of the items, or an empty stream
+   */
+
+  public DoubleStream stream() {
+    return Arrays.stream(this.values);
+  }
+
+  /**
+   * @return the sum of all items, or zero
+   */
+
+  public double sum() {
+    double total = 0;
+    for (double value : this.values) {
+      total += value;
+    }
+    return total;
+  }
+
+  /**
+   * As with Math.min, NaN wins: if any item is NaN, the result is NaN,
+   * whether or not the list is sorted
+   *
+   * @return either the smallest item, or an empty optional
+   */
+
+  public OptionalDouble min() {
+    if (this.isEmpty()) {
+      return OptionalDouble.empty();
+    }
+    if (this.sorted) {
+      // sorting puts NaN last
+      double last = this.values[this.values.length - 1];
+      return OptionalDouble.of(Double.isNaN(last) ? last : this.values[0]);
+    }
+    double min = this.values[0];
+    for (int i = 1; i < this.values.length; i++) {
+      min = Math.min(min, this.values[i]);
+    }
+    return OptionalDouble.of(min);
+  }
+
+  /**
+   * As with Math.max, NaN wins: if any item is NaN, the result is NaN,
+   * whether or not the list is sorted
+   *
+   * @return either the largest item, or an empty optional
+   */
+
+  public OptionalDouble max() {
+    if (this.isEmpty()) {
+      return OptionalDouble.empty();
+    }
+    if (this.sorted) {
+      return OptionalDouble.of(this.values[this.values.length - 1]);
+    }
+    double max = this.values[0];
+    for (int i = 1; i < this.values.length; i++) {
+      max = Math.max(max, this.values[i]);
+    }
+    return OptionalDouble.of(max);
+  }
+
+  /**
+   * @return new list with the items in ascending order, or this list if already sorted
+   */
+
+  public DoubleBoxedList sort() {
+    if (this.sorted) {
+      return this;
+    }
+    double[] copy = this.values.clone();
+    Arrays.sort(copy);
+    return new DoubleBoxedList(copy, true);
+  }
+
+  /**
+   * @return if the items are known to be in ascending order
+   */
+
+  public boolean isSorted() {
+    return this.sorted;
+  }
+
+  /**
+   * Only valid on a sorted list
+   *
+   * @param key - value to search for
+   * @return index of the key, or (-(insertion point) - 1) if not found
+   */
+
+  public int binarySearch(double key) {
+    if (!this.sorted) {
+      throw new IllegalStateException("list is not sorted");
+    }
+    return Arrays.binarySearch(this.values, key);
+  }
+
+  /**
+   * @return the items as a BoxedList
+   */
+
+  public BoxedList<Double> boxed() {
+    if (this.isEmpty()) {
+      return BoxedList.empty();
+    }
+    List<Double> list = new ArrayList<>(this.values.length);
+    for (double value : this.values) {
+      list.add(value);
+    }
+    return new BoxedList<>(list);
+  }
+
+}
@@ -0,0 +1,177 @@
+package com.vambraceservices;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * The ExpiringLazy class
+ *
+ * A Lazy whose value expires a fixed time after it was loaded. With refresh
+ * ahead, a single background reload starts shortly before expiry, so readers
+ * are not blocked. Loads are serialized, so the loader never runs on more
+ * than one thread at a time. A failed reload keeps the last good value.
+ *
+ * After a load fails, the policy decides when the loader runs again, in the
+ * foreground or the background. Until then get returns the last good value,
+ * or rethrows the failure if there is none.
+ *
+ * @param <V> type of returned value
+ */
+
+public final class ExpiringLazy<V> extends Lazy<V> {
+
+  private final Supplier<V>   loader;
+  private final long          ttl;
+  private final long          refreshAhead;
+  private final Policy        policy;
+  private final Executor      executor;
+  private final AtomicBoolean refreshing = new AtomicBoolean();
+  private final Object        lock       = new Object();
+
+  private volatile Entry<V>         entry;
+  private volatile RuntimeException failure;
+  private volatile long             retryAt;
+  private int                       failures;
+
+  /**
+   * @param ttl - how long a loaded value is kept
+   * @param refreshAhead - how long before expiry to start reloading, or zero
+   * @param loader - supplier that can be called to load the value when needed
+   * @param policy - when to call the loader again after it throws
+   * @param executor - runs background reloads
+   */
+
+  ExpiringLazy(Duration ttl, Duration refreshAhead, Supplier<V> loader, Policy policy, Executor executor) {
+    if (ttl.isNegative() || ttl.isZero() || refreshAhead.isNegative() || refreshAhead.compareTo(ttl) >= 0) {
+      throw new IllegalArgumentException("ttl " + ttl + " must be positive and longer than refresh ahead "
+                                         + refreshAhead);
+    }
+    this.loader = Objects.requireNonNull(loader);
+    this.ttl = ttl.toNanos();
+    this.refreshAhead = refreshAhead.toNanos();
+    this.policy = Objects.requireNonNull(policy);
+    this.executor = executor;
+  }
+
+  /**
+   * Loads on the calling thread if there is no value, or it has expired. If
+   * that load fails, or the policy is still backing off from an earlier
+   * failure, the previous value is returned if one exists
+   *
+   * @return - current value
+   */
+
+  @Override
+  public V get() {
+    Entry<V> current = this.entry;
+    long now = System.nanoTime();
+    if (Objects.nonNull(current) && now - current.expiresAt < 0) {
+      if (this.refreshAhead > 0 && now - (current.expiresAt - this.refreshAhead) >= 0 && !this.backingOff(now)
+          && this.refreshing.compareAndSet(false, true)) {
+        this.refreshInBackground();
+      }
+      return current.value;
+    }
+    return this.load();
+  }
+
+  /**
+   * @return if a value is loaded and has not expired
+   */
+
+  @Override
+  public boolean isLoaded() {
+    Entry<V> current = this.entry;
+    return Objects.nonNull(current) && System.nanoTime() - current.expiresAt < 0;
+  }
+
+  /**
+   * Expires the current value, so the next get loads again
+   */
+
+  public void invalidate() {
+    synchronized (this.lock) {
+      this.entry = null;
+      this.failure = null;
+      this.failures = 0;
+    }
+  }
+
+  private V load() {
+    synchronized (this.lock) {
+      Entry<V> current = this.entry;
+      long now = System.nanoTime();
+      if (Objects.nonNull(current) && now - current.expiresAt < 0) {
+        return current.value;
+      }
+      if (this.backingOff(now)) {
+        if (Objects.nonNull(current)) {
+          return current.value;
+        }
+        throw this.failure;
+      }
+      try {
+        return this.loaded(this.loader.get());
+      } catch (RuntimeException e) {
+        this.failed(e);
+        if (Objects.nonNull(current)) {
+          return current.value;
+        }
+        throw e;
+      }
+    }
+  }
+
+  private void refreshInBackground() {
+    try {
+      this.executor.execute(() -> {
+        try {
+          synchronized (this.lock) {
+            try {
+              this.loaded(this.loader.get());
+            } catch (RuntimeException e) {
+              // last good value is kept until it expires
+              this.failed(e);
+            }
+          }
+        } finally {
+          this.refreshing.set(false);
+        }
+      });
+    } catch (RuntimeException e) {
+      this.refreshing.set(false);
+    }
+  }
+
+  private boolean backingOff(long now) {
+    return Objects.nonNull(this.failure) && (this.policy.caches() || now - this.retryAt < 0);
+  }
+
+  private V loaded(V value) {
+    this.entry = new Entry<>(value, System.nanoTime() + this.ttl);
+    this.failure = null;
+    this.failures = 0;
+    return value;
+  }
+
+  private void failed(RuntimeException e) {
+    this.failures++;
+    this.retryAt = System.nanoTime() + this.policy.backoff(this.failures);
+    this.failure = e;
+  }
+
+  private static final class Entry<V> {
+
+    private final V    value;
+    private final long expiresAt;
+
+    private Entry(V value, long expiresAt) {
+      this.value = value;
+      this.expiresAt = expiresAt;
+    }
+  }
+
+}
@@ -0,0 +1,44 @@
+package com.vambraceservices;
+
+import java.util.function.Function;
+
+/**
+ * A BoxedList whose items are produced lazily from a source list by a fused
+ * chain of operations. Each terminal operation makes a single traversal of
+ * the source.
+ *
+ * @param <S> source stored type
+ * @param <L> produced type
+ */
+
+final class FusedBoxedList<S, L> extends TraversedBoxedList<L> {
+
+  private final BoxedList<S>               source;
+  private final Function<Sink<L>, Sink<S>> stage;
+
+  /**
+   * @param source - list the operations are applied to
+   * @param stage - wraps a downstream sink with every operation
+   */
+
+  FusedBoxedList(BoxedList<S> source, Function<Sink<L>, Sink<S>> stage) {
+    this.source = source;
+    this.stage = stage;
+  }
+
+  @Override
+  <R> BoxedList<R> then(Function<Sink<R>, Sink<L>> operator) {
+    return new FusedBoxedList<>(this.source, downstream -> this.stage.apply(operator.apply(downstream)));
+  }
+
+  @Override
+  boolean traverse(Sink<L> sink) {
+    return this.source.traverse(this.stage.apply(sink));
+  }
+
+  @Override
+  int estimateSize() {
+    return this.source.estimateSize();
+  }
+
+}
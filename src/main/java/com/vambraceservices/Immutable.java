@@ -1,12 +1,18 @@
 package com.vambraceservices;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 public class Immutable<V> {
 
-  private V value;
+  private final AtomicReference<Object> state = new AtomicReference<>();
 
   /**
    * Usage
@@ -20,8 +26,33 @@ public class Immutable<V> {
    */
 
   public void set(V v) {
-    assert Objects.isNull(this.value);
-    this.value = v;
+    if (!this.trySet(v)) {
+      throw new AssertionError("value already set");
+    }
+  }
+
+  /**
+   * Publishes the value to every thread, then wakes threads waiting in await,
+   * then runs the onSet consumers in the order they were registered. Nothing
+   * is thrown once the value is published
+   *
+   * @param v - value to store, not null
+   * @return true if this call set the value, false if it had been set before
+   */
+
+  public boolean trySet(V v) {
+    Objects.requireNonNull(v);
+    Value<V> set = new Value<>(v);
+    while (true) {
+      Object current = this.state.get();
+      if (current instanceof Value) {
+        return false;
+      }
+      if (this.state.compareAndSet(current, set)) {
+        release((Waiter) current, v);
+        return true;
+      }
+    }
   }
 
   /**
@@ -33,7 +64,7 @@ public class Immutable<V> {
    */
 
   public void get(final Consumer<V> consumer) {
-    consumer.accept(this.value);
+    consumer.accept(this.value());
   }
 
   /**
@@ -41,7 +72,7 @@ public class Immutable<V> {
    */
 
   public Boolean hasValue() {
-    return Objects.nonNull(this.value);
+    return this.state.get() instanceof Value;
   }
 
   /**
@@ -50,7 +81,199 @@ public class Immutable<V> {
    */
 
   public Boolean test(Predicate<V> predicate) {
-    return predicate.test(this.value);
+    return predicate.test(this.value());
+  }
+
+  /**
+   * Parks the calling thread until the value is set
+   *
+   * @return the value
+   * @throws InterruptedException if interrupted while waiting
+   */
+
+  public V await() throws InterruptedException {
+    return this.await(-1).orElse(null);
+  }
+
+  /**
+   * @param timeout - how long to wait for the value
+   * @return the value, or empty if it was not set in time
+   * @throws InterruptedException if interrupted while waiting
+   */
+
+  public Boxed<V> await(Duration timeout) throws InterruptedException {
+    return this.await(Math.max(0, timeout.toNanos()));
+  }
+
+  /**
+   * Runs the consumer once, on the thread that sets the value, or straight
+   * away on this thread if it is already set. Waiting threads are woken
+   * before any queued consumer runs. If a queued consumer throws, even an
+   * Error, it goes to the setting thread's uncaught exception handler, and
+   * the set still succeeds
+   *
+   * @param consumer - that accepts the value once set
+   */
+
+  public void onSet(Consumer<V> consumer) {
+    Objects.requireNonNull(consumer);
+    if (Objects.isNull(this.enqueue(consumer))) {
+      consumer.accept(this.value());
+    }
+  }
+
+  /**
+   * @return future completed with the value once set
+   */
+
+  public CompletableFuture<V> toFuture() {
+    CompletableFuture<V> future = new CompletableFuture<>();
+    this.onSet(future::complete);
+    return future;
+  }
+
+  /**
+   * @return how many waiters and consumers are queued
+   */
+
+  int waiting() {
+    Object current = this.state.get();
+    int count = 0;
+    for (Waiter w = current instanceof Waiter ? (Waiter) current : null; Objects.nonNull(w); w = w.next) {
+      count++;
+    }
+    return count;
+  }
+
+  @SuppressWarnings("unchecked")
+  private V value() {
+    Object current = this.state.get();
+    return current instanceof Value ? ((Value<V>) current).value : null;
+  }
+
+  private Boxed<V> await(long nanos) throws InterruptedException {
+    if (this.hasValue() || nanos == 0) {
+      return Boxed.of(this.value());
+    }
+    long deadline = System.nanoTime() + nanos;
+    Waiter node = this.enqueue(Thread.currentThread());
+    if (Objects.isNull(node)) {
+      return Boxed.of(this.value());
+    }
+    try {
+      while (!this.hasValue()) {
+        if (Thread.interrupted()) {
+          throw new InterruptedException();
+        }
+        if (nanos < 0) {
+          LockSupport.park(this);
+        } else {
+          long remaining = deadline - System.nanoTime();
+          if (remaining <= 0) {
+            break;
+          }
+          LockSupport.parkNanos(this, remaining);
+        }
+      }
+    } finally {
+      if (!this.hasValue()) {
+        this.remove(node);
+      }
+    }
+    return Boxed.of(this.value());
+  }
+
+  /**
+   * @param action - thread to unpark or consumer to run once set
+   * @return the queued node, or null if the value was already set, and action not queued
+   */
+
+  private Waiter enqueue(Object action) {
+    while (true) {
+      Object current = this.state.get();
+      if (current instanceof Value) {
+        return null;
+      }
+      Waiter node = new Waiter(action, (Waiter) current);
+      if (this.state.compareAndSet(current, node)) {
+        return node;
+      }
+    }
+  }
+
+  /**
+   * Clears the node, then unlinks every cleared node, starting over if the
+   * stack changes underneath, in the way FutureTask removes its waiters
+   *
+   * @param node - node of a waiter that gave up
+   */
+
+  private void remove(Waiter node) {
+    node.action = null;
+    retry:
+    while (true) {
+      Object head = this.state.get();
+      if (!(head instanceof Waiter)) {
+        return;
+      }
+      Waiter pred = null;
+      Waiter next;
+      for (Waiter q = (Waiter) head; Objects.nonNull(q); q = next) {
+        next = q.next;
+        if (Objects.nonNull(q.action)) {
+          pred = q;
+        } else if (Objects.nonNull(pred)) {
+          pred.next = next;
+          if (Objects.isNull(pred.action)) {
+            continue retry;
+          }
+        } else if (!this.state.compareAndSet(q, next)) {
+          continue retry;
+        }
+      }
+      return;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <V> void release(Waiter waiters, V value) {
+    List<Consumer<V>> consumers = new ArrayList<>();
+    for (Waiter w = waiters; Objects.nonNull(w); w = w.next) {
+      Object action = w.action;
+      if (action instanceof Thread) {
+        LockSupport.unpark((Thread) action);
+      } else if (Objects.nonNull(action)) {
+        consumers.add((Consumer<V>) action);
+      }
+    }
+    for (int i = consumers.size() - 1; i >= 0; i--) {
+      try {
+        consumers.get(i).accept(value);
+      } catch (Throwable e) {
+        Thread current = Thread.currentThread();
+        current.getUncaughtExceptionHandler().uncaughtException(current, e);
+      }
+    }
+  }
+
+  private static final class Value<V> {
+
+    private final V value;
+
+    private Value(V value) {
+      this.value = value;
+    }
+  }
+
+  private static final class Waiter {
+
+    private volatile Object action;
+    private volatile Waiter next;
+
+    private Waiter(Object action, Waiter next) {
+      this.action = action;
+      this.next = next;
+    }
   }
 
 
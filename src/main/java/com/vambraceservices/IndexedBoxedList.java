@@ -0,0 +1,120 @@
+package com.vambraceservices;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * A BoxedList that stores items in its own random access structure, and
+ * implements every read through get(int) and size().
+ *
+ * @param <L> stored type
+ */
+
+abstract class IndexedBoxedList<L> extends BoxedList<L> {
+
+  IndexedBoxedList() {
+    super(null);
+  }
+
+  /**
+   * @param index - position of the item
+   * @return the item at the index
+   */
+
+  public abstract L get(int index);
+
+  @Override
+  public abstract int size();
+
+  @Override
+  public boolean isEmpty() {
+    return this.size() == 0;
+  }
+
+  @Override
+  public Optional<L> first() {
+    if (this.isEmpty()) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(this.get(0));
+  }
+
+  @Override
+  public List<L> get() {
+    return this.copy();
+  }
+
+  @Override
+  public List<L> get(Supplier<List<L>> builder) {
+    if (this.isEmpty()) {
+      return Collections.emptyList();
+    }
+    List<L> list = builder.get();
+    list.addAll(this.view());
+    return list;
+  }
+
+  /**
+   * @return an unmodifiable random access view of the list
+   */
+
+  @Override
+  public List<L> view() {
+    if (this.isEmpty()) {
+      return Collections.emptyList();
+    }
+    return new Indexed();
+  }
+
+  @Override
+  public List<L> copy() {
+    return this.isEmpty() ? Collections.emptyList() : new ArrayList<>(this.view());
+  }
+
+  @Override
+  public List<L> copy(IntFunction<List<L>> builder) {
+    return this.get(() -> builder.apply(this.size()));
+  }
+
+  @Override
+  public Stream<L> stream() {
+    return this.view().stream();
+  }
+
+  @Override
+  boolean isRandomAccess() {
+    return true;
+  }
+
+  @Override
+  boolean traverse(Sink<L> sink) {
+    int size = this.size();
+    for (int i = 0; i < size; i++) {
+      if (!sink.push(this.get(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private final class Indexed extends AbstractList<L> implements RandomAccess {
+
+    @Override
+    public L get(int index) {
+      return IndexedBoxedList.this.get(index);
+    }
+
+    @Override
+    public int size() {
+      return IndexedBoxedList.this.size();
+    }
+  }
+
+}
@@ -0,0 +1,139 @@
+package com.vambraceservices;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.ToIntFunction;
+
+/**
+ * The IntBoxedIndex class
+ *
+ * Read only multi valued hash index of a BoxedList's items by a primitive int
+ * key, so keys are never boxed. Uses open addressing over int arrays, with
+ * items of the same key stored together in encounter order. Built once, on
+ * first use.
+ *
+ * @param <L> indexed type
+ */
+
+public final class IntBoxedIndex<L> {
+
+  private final Lazy<Table<L>> table;
+
+  /**
+   * @param source - list to index
+   * @param key - returns the key of each item
+   */
+
+  IntBoxedIndex(BoxedList<L> source, ToIntFunction<L> key) {
+    this.table = Lazy.init(() -> new Table<>(source.view(), key));
+  }
+
+  /**
+   * @param key - key to look up
+   * @return read only view of items with the key in encounter order, or an
+   * empty list; repeated lookups of a key return the same view
+   */
+
+  public BoxedList<L> lookup(int key) {
+    return this.table.get().lookup(key);
+  }
+
+  /**
+   * @param key - key to look up
+   * @return if any item has the key
+   */
+
+  public boolean contains(int key) {
+    Table<L> current = this.table.get();
+    return current.counts[current.find(key)] != 0;
+  }
+
+  /**
+   * @return the number of distinct keys
+   */
+
+  public int size() {
+    return this.table.get().keys;
+  }
+
+  private static final class Table<L> {
+
+    private final List<L>                            grouped;
+    private final int[]                              slotKeys;
+    private final int[]                              starts;
+    private final int[]                              counts;
+    private final AtomicReferenceArray<BoxedList<L>> views;
+    private final int                                mask;
+    private int                                      keys;
+
+    /**
+     * Items are laid out grouped by key, in encounter order within each key,
+     * so the items of a key are one contiguous range
+     */
+
+    @SuppressWarnings("unchecked")
+    private Table(List<L> source, ToIntFunction<L> key) {
+      int count = source.size();
+      int capacity = Integer.highestOneBit(Math.max(2, count) * 2 - 1) << 1;
+      Object[] items = source.toArray();
+      int[] itemSlots = new int[count];
+      this.slotKeys = new int[capacity];
+      this.starts = new int[capacity];
+      this.counts = new int[capacity];
+      this.views = new AtomicReferenceArray<>(capacity);
+      this.mask = capacity - 1;
+      for (int i = 0; i < count; i++) {
+        int k = key.applyAsInt((L) items[i]);
+        int slot = this.find(k);
+        if (this.counts[slot] == 0) {
+          this.slotKeys[slot] = k;
+          this.keys++;
+        }
+        this.counts[slot]++;
+        itemSlots[i] = slot;
+      }
+      for (int slot = 0, start = 0; slot < capacity; slot++) {
+        this.starts[slot] = start;
+        start += this.counts[slot];
+      }
+      int[] filled = new int[capacity];
+      Object[] grouped = new Object[count];
+      for (int i = 0; i < count; i++) {
+        int slot = itemSlots[i];
+        grouped[this.starts[slot] + filled[slot]++] = items[i];
+      }
+      this.grouped = (List<L>) Arrays.asList(grouped);
+    }
+
+    private BoxedList<L> lookup(int key) {
+      int slot = this.find(key);
+      if (this.counts[slot] == 0) {
+        return BoxedList.empty();
+      }
+      BoxedList<L> view = this.views.get(slot);
+      if (Objects.isNull(view)) {
+        view = BoxedList.of(this.grouped.subList(this.starts[slot], this.starts[slot] + this.counts[slot]));
+        if (!this.views.compareAndSet(slot, null, view)) {
+          view = this.views.get(slot);
+        }
+      }
+      return view;
+    }
+
+    private int find(int key) {
+      int slot = mix(key) & this.mask;
+      while (this.counts[slot] != 0 && this.slotKeys[slot] != key) {
+        slot = (slot + 1) & this.mask;
+      }
+      return slot;
+    }
+
+    private static int mix(int key) {
+      int h = key * 0x9E3779B9;
+      return h ^ (h >>> 16);
+    }
+  }
+
+}
@@ -1,12 +1,23 @@
 package com.vambraceservices;
 
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
-public class Lazy<V> {
+/**
+ * The Lazy class
+ *
+ * A value loaded on first use. Each variant keeps its own state and loads in
+ * its own way; the factories below create them.
+ *
+ * @param <V> type of returned value
+ */
 
-  private V           value;
-  private Supplier<V> supplier;
+public abstract class Lazy<V> {
 
   /**
    * @param loader -  supplier that can be called to load the value when needed
@@ -15,26 +26,262 @@ public class Lazy<V> {
    */
 
   public static <V> Lazy<V> init(final Supplier<V> loader) {
-    return new Lazy<>(loader);
+    return new MemoizedLazy<>(loader, Policy.retry());
   }
 
   /**
-   * @param s - value to store
+   * @param loader -  supplier that can be called to load the value when needed
+   * @param policy - what later calls to get do after the loader throws
+   * @param <V> - type of returned value
+   * @return a container for a value that will be lazy loaded
+   */
+
+  public static <V> Lazy<V> init(final Supplier<V> loader, final Policy policy) {
+    return new MemoizedLazy<>(loader, policy);
+  }
+
+  /**
+   * The first call to get or toFuture starts the load on the default
+   * executor, which uses virtual threads when available
+   *
+   * @param loader - supplier that can be called to load the value when needed
+   * @param <V> - type of returned value
+   * @return a container for a value that will be loaded asynchronously
+   */
+
+  public static <V> AsyncLazy<V> initAsync(final Supplier<V> loader) {
+    return new AsyncLazy<>(loader, DefaultExecutor.get());
+  }
+
+  /**
+   * @param loader - supplier that can be called to load the value when needed
+   * @param executor - runs the loader
+   * @param <V> - type of returned value
+   * @return a container for a value that will be loaded asynchronously
+   */
+
+  public static <V> AsyncLazy<V> initAsync(final Supplier<V> loader, final Executor executor) {
+    return new AsyncLazy<>(loader, executor);
+  }
+
+  /**
+   * @return an empty graph of lazies to load ahead of first use
+   */
+
+  public static LazyWarmup warmup() {
+    return new LazyWarmup();
+  }
+
+  /**
+   * The value is held through a soft reference, so it can be reclaimed when
+   * memory runs low, and is loaded again by the next get
+   *
+   * @param loader - supplier that can be called to load the value when needed
+   * @param <V> - type of returned value
+   * @return a container for a value that will be lazy loaded, and reloaded after reclamation
+   */
+
+  public static <V> ReclaimableLazy<V> soft(final Supplier<V> loader) {
+    return new ReclaimableLazy<>(loader, SoftReference::new);
+  }
+
+  /**
+   * The value is held through a weak reference, so it can be reclaimed once
+   * nothing else refers to it, and is loaded again by the next get
+   *
+   * @param loader - supplier that can be called to load the value when needed
+   * @param <V> - type of returned value
+   * @return a container for a value that will be lazy loaded, and reloaded after reclamation
+   */
+
+  public static <V> ReclaimableLazy<V> weak(final Supplier<V> loader) {
+    return new ReclaimableLazy<>(loader, WeakReference::new);
+  }
+
+  /**
+   * Values expire ttl after they were loaded, and the next get loads again.
+   * The loader never runs on more than one thread at a time
+   *
+   * @param ttl - how long a loaded value is kept
+   * @param loader - supplier that can be called to load the value when needed
+   * @param <V> - type of returned value
+   * @return a container for a value that will be lazy loaded, and reloaded after expiry
+   */
+
+  public static <V> ExpiringLazy<V> expiring(final Duration ttl, final Supplier<V> loader) {
+    return new ExpiringLazy<>(ttl, Duration.ZERO, loader, Policy.retry(), DefaultExecutor.get());
+  }
+
+  /**
+   * @param ttl - how long a loaded value is kept
+   * @param loader - supplier that can be called to load the value when needed
+   * @param policy - when to call the loader again after it throws
+   * @param <V> - type of returned value
+   * @return a container for a value that will be lazy loaded, and reloaded after expiry
+   * @see #expiring(Duration, Supplier)
+   */
+
+  public static <V> ExpiringLazy<V> expiring(final Duration ttl, final Supplier<V> loader, final Policy policy) {
+    return new ExpiringLazy<>(ttl, Duration.ZERO, loader, policy, DefaultExecutor.get());
+  }
+
+  /**
+   * Once a value is within refreshAhead of expiry, the next get starts one
+   * background reload, and readers keep the current value without blocking.
+   * If the reload fails, the last good value is kept
+   *
+   * @param ttl - how long a loaded value is kept
+   * @param refreshAhead - how long before expiry to start reloading
+   * @param loader - supplier that can be called to load the value when needed
+   * @param <V> - type of returned value
+   * @return a container for a value that will be lazy loaded, and reloaded before expiry
+   */
+
+  public static <V> ExpiringLazy<V> expiring(final Duration ttl, final Duration refreshAhead,
+                                             final Supplier<V> loader) {
+    return new ExpiringLazy<>(ttl, refreshAhead, loader, Policy.retry(), DefaultExecutor.get());
+  }
+
+  /**
+   * @param ttl - how long a loaded value is kept
+   * @param refreshAhead - how long before expiry to start reloading
+   * @param loader - supplier that can be called to load the value when needed
+   * @param executor - runs background reloads
+   * @param <V> - type of returned value
+   * @return a container for a value that will be lazy loaded, and reloaded before expiry
+   * @see #expiring(Duration, Duration, Supplier)
+   */
+
+  public static <V> ExpiringLazy<V> expiring(final Duration ttl, final Duration refreshAhead,
+                                             final Supplier<V> loader, final Executor executor) {
+    return new ExpiringLazy<>(ttl, refreshAhead, loader, Policy.retry(), executor);
+  }
+
+  /**
+   * @param ttl - how long a loaded value is kept
+   * @param refreshAhead - how long before expiry to start reloading
+   * @param loader - supplier that can be called to load the value when needed
+   * @param policy - when to call the loader again after it throws
+   * @param executor - runs background reloads
+   * @param <V> - type of returned value
+   * @return a container for a value that will be lazy loaded, and reloaded before expiry
+   * @see #expiring(Duration, Duration, Supplier)
    */
 
-  private Lazy(final Supplier<V> s) {
-    this.supplier = s;
+  public static <V> ExpiringLazy<V> expiring(final Duration ttl, final Duration refreshAhead,
+                                             final Supplier<V> loader, final Policy policy,
+                                             final Executor executor) {
+    return new ExpiringLazy<>(ttl, refreshAhead, loader, policy, executor);
   }
 
   /**
-   * @return - inner value after callings supplier if not there
+   * Each key is loaded once, by one thread, and kept until invalidated. Use
+   * LazyCache.builder to bound, expire or batch load entries
+   *
+   * @param loader - function that can be called to load the value of a key when needed
+   * @param <K> - type of keys
+   * @param <V> - type of returned values
+   * @return a cache of values that will be lazy loaded per key
    */
 
-  public synchronized V get() {
-    if (Objects.isNull(value)) {
-      value = this.supplier.get();
+  public static <K, V> LazyCache<K, V> keyed(final Function<K, V> loader) {
+    return LazyCache.builder(loader).build();
+  }
+
+  /**
+   * For the variants, each holding and loading its value in its own way
+   */
+
+  Lazy() {
+  }
+
+  /**
+   * @return - inner value, loaded if not there
+   */
+
+  public abstract V get();
+
+  /**
+   * @return if the value has been loaded
+   */
+
+  public abstract boolean isLoaded();
+
+  /**
+   * The Policy class
+   *
+   * What calls to get do after the loader has thrown
+   */
+
+  public static final class Policy {
+
+    private static final Policy RETRY = new Policy(false, 0, 0);
+    private static final Policy CACHE = new Policy(true, 0, 0);
+
+    private final boolean cache;
+    private final long    initialNanos;
+    private final long    maxNanos;
+
+    private Policy(boolean cache, long initialNanos, long maxNanos) {
+      this.cache = cache;
+      this.initialNanos = initialNanos;
+      this.maxNanos = maxNanos;
+    }
+
+    /**
+     * @return policy that calls the loader again on the next get
+     */
+
+    public static Policy retry() {
+      return RETRY;
+    }
+
+    /**
+     * @return policy that rethrows the same exception on every later get
+     */
+
+    public static Policy cache() {
+      return CACHE;
+    }
+
+    /**
+     * Until the backoff has passed, get rethrows the last exception
+     *
+     * @param initial - wait after the first failure, doubled after each further failure
+     * @param max - the longest wait
+     * @return policy that calls the loader again once the backoff has passed
+     */
+
+    public static Policy retry(Duration initial, Duration max) {
+      Objects.requireNonNull(initial);
+      Objects.requireNonNull(max);
+      return new Policy(false, initial.toNanos(), Math.max(initial.toNanos(), max.toNanos()));
+    }
+
+    /**
+     * @return if failures are kept for good rather than retried
+     */
+
+    boolean caches() {
+      return this.cache;
+    }
+
+    /**
+     * @param failures - failed loads so far
+     * @return how long to wait before loading again
+     */
+
+    long backoff(int failures) {
+      if (this.initialNanos == 0) {
+        return 0;
+      }
+      int doublings = Math.min(failures - 1, 62);
+      long wait = this.initialNanos << doublings;
+      if (wait < 0 || wait >> doublings != this.initialNanos) {
+        return this.maxNanos;
+      }
+      return Math.min(wait, this.maxNanos);
     }
-    return value;
   }
 
 }
@@ -0,0 +1,416 @@
+package com.vambraceservices;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * The LazyCache class
+ *
+ * Memoizes a loader per key, with the same semantics as Lazy: each key is
+ * loaded once, by one thread, while others asking for it wait. Entries can
+ * be bounded by count or weight, evicting the least recently used, and can
+ * expire a fixed time after they were loaded.
+ *
+ * A failed load is rethrown to every caller waiting on it, and the next get
+ * loads again. Recency is recorded on a best effort basis; a read that finds the order
+ * lock busy does not wait for it.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+
+public final class LazyCache<K, V> {
+
+  private final ConcurrentHashMap<K, Node<K, V>> entries = new ConcurrentHashMap<>();
+  private final LinkedHashMap<K, Node<K, V>>     order   = new LinkedHashMap<>(16, 0.75f, true);
+  private final ReentrantLock                    lock    = new ReentrantLock();
+
+  private final Function<K, V>                   loader;
+  private final Function<Set<K>, Map<K, V>>      batchLoader;
+  private final ToLongBiFunction<K, V>           weigher;
+  private final long                             maximumWeight;
+  private final long                             ttl;
+
+  private final LongAdder hits      = new LongAdder();
+  private final LongAdder misses    = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private long            weight;
+
+  private LazyCache(Builder<K, V> builder) {
+    this.loader = builder.loader;
+    this.batchLoader = builder.batchLoader;
+    this.weigher = builder.weigher;
+    this.maximumWeight = builder.maximumWeight;
+    this.ttl = builder.ttl;
+  }
+
+  /**
+   * @param <K> - key type
+   * @param <V> - value type
+   * @param loader - loads the value of a key when needed
+   * @return builder for a cache using the loader
+   */
+
+  public static <K, V> Builder<K, V> builder(Function<K, V> loader) {
+    return new Builder<>(Objects.requireNonNull(loader));
+  }
+
+  /**
+   * @param key - key to look up
+   * @return value of the key, loaded if not already cached
+   */
+
+  public V get(K key) {
+    Node<K, V> node = this.entries.get(key);
+    boolean created = false;
+    if (Objects.isNull(node) || node.isExpired()) {
+      if (Objects.nonNull(node)) {
+        this.discard(node);
+      }
+      Node<K, V> fresh = new Node<>(key, this.loader, this.ttl);
+      node = this.entries.putIfAbsent(key, fresh);
+      if (Objects.isNull(node)) {
+        node = fresh;
+        created = true;
+      }
+    }
+    if (created) {
+      this.misses.increment();
+    } else {
+      this.hits.increment();
+      this.touch(key);
+    }
+    V value;
+    try {
+      value = node.value.get();
+    } catch (RuntimeException e) {
+      this.discard(node);
+      throw e;
+    }
+    this.admit(node, value);
+    return value;
+  }
+
+  /**
+   * @param key - key to look up
+   * @return the cached value of the key, or empty if not loaded
+   */
+
+  public Boxed<V> getIfPresent(K key) {
+    Node<K, V> node = this.entries.get(key);
+    if (Objects.isNull(node) || !node.value.isLoaded() || node.isExpired()) {
+      this.misses.increment();
+      return Boxed.empty();
+    }
+    this.hits.increment();
+    this.touch(key);
+    return Boxed.of(node.value.get());
+  }
+
+  /**
+   * Keys that are not cached are loaded in one call to the batch loader, if
+   * there is one, otherwise one at a time. Keys already being loaded by
+   * another thread are waited for rather than loaded again
+   *
+   * @param keys - keys to look up
+   * @return unmodifiable map of each key to its value, in key order
+   */
+
+  public Map<K, V> getAll(Iterable<K> keys) {
+    Set<K> wanted = new LinkedHashSet<>();
+    keys.forEach(wanted::add);
+    Map<K, Node<K, V>> loaded = Objects.isNull(this.batchLoader)
+        ? Collections.emptyMap() : this.loadMissing(wanted);
+    Map<K, V> result = new LinkedHashMap<>((int) (wanted.size() / 0.75f) + 1);
+    for (K key : wanted) {
+      Node<K, V> node = loaded.get(key);
+      result.put(key, Objects.isNull(node) ? this.get(key) : node.value.get());
+    }
+    return Collections.unmodifiableMap(result);
+  }
+
+  /**
+   * @param key - key to remove
+   */
+
+  public void invalidate(K key) {
+    Node<K, V> node = this.entries.get(key);
+    if (Objects.nonNull(node)) {
+      this.discard(node);
+    }
+  }
+
+  /**
+   * Removes every entry
+   */
+
+  public void invalidateAll() {
+    for (Node<K, V> node : this.entries.values()) {
+      this.discard(node);
+    }
+  }
+
+  /**
+   * @return the number of entries, including those still loading
+   */
+
+  public int size() {
+    return this.entries.size();
+  }
+
+  /**
+   * @return counts of hits, misses and evictions so far
+   */
+
+  public Stats stats() {
+    return new Stats(this.hits.sum(), this.misses.sum(), this.evictions.sum());
+  }
+
+  private Map<K, Node<K, V>> loadMissing(Set<K> wanted) {
+    Set<K> claimed = new LinkedHashSet<>();
+    Map<K, Node<K, V>> nodes = new LinkedHashMap<>();
+    // a get on a claimed key can start the batch before claiming ends, so it waits for the full set
+    CompletableFuture<Set<K>> claiming = new CompletableFuture<>();
+    Lazy<Map<K, V>> batch = Lazy.init(() -> {
+      Map<K, V> loaded = this.batchLoader.apply(claiming.join());
+      return Objects.isNull(loaded) ? Collections.emptyMap() : loaded;
+    }, Lazy.Policy.cache());
+    try {
+      for (K key : wanted) {
+        Node<K, V> existing = this.entries.get(key);
+        if (Objects.nonNull(existing) && !existing.isExpired()) {
+          continue;
+        }
+        if (Objects.nonNull(existing)) {
+          this.discard(existing);
+        }
+        Node<K, V> fresh = new Node<>(key, k -> batch.get().get(k), this.ttl);
+        if (Objects.isNull(this.entries.putIfAbsent(key, fresh))) {
+          claimed.add(key);
+          nodes.put(key, fresh);
+        }
+      }
+    } finally {
+      claiming.complete(Collections.unmodifiableSet(new LinkedHashSet<>(claimed)));
+    }
+    if (claimed.isEmpty()) {
+      return nodes;
+    }
+    this.misses.add(claimed.size());
+    try {
+      batch.get();
+    } catch (RuntimeException e) {
+      nodes.values().forEach(this::discard);
+      throw e;
+    }
+    nodes.values().forEach(node -> this.admit(node, node.value.get()));
+    return nodes;
+  }
+
+  private void touch(K key) {
+    if (this.maximumWeight != Long.MAX_VALUE && this.lock.tryLock()) {
+      try {
+        this.order.get(key);
+      } finally {
+        this.lock.unlock();
+      }
+    }
+  }
+
+  private void admit(Node<K, V> node, V value) {
+    if (this.maximumWeight == Long.MAX_VALUE || !node.admitted.compareAndSet(false, true)) {
+      return;
+    }
+    this.lock.lock();
+    try {
+      if (this.entries.get(node.key) != node) {
+        return;
+      }
+      node.weight = this.weigher.applyAsLong(node.key, value);
+      this.order.put(node.key, node);
+      this.weight += node.weight;
+      Iterator<Node<K, V>> eldest = this.order.values().iterator();
+      while (this.weight > this.maximumWeight && eldest.hasNext()) {
+        Node<K, V> evicted = eldest.next();
+        eldest.remove();
+        this.weight -= evicted.weight;
+        this.entries.remove(evicted.key, evicted);
+        this.evictions.increment();
+      }
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  private void discard(Node<K, V> node) {
+    if (this.maximumWeight == Long.MAX_VALUE) {
+      this.entries.remove(node.key, node);
+      return;
+    }
+    this.lock.lock();
+    try {
+      if (this.entries.remove(node.key, node) && this.order.remove(node.key, node)) {
+        this.weight -= node.weight;
+      }
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * The Builder class
+   *
+   * @param <K> key type
+   * @param <V> value type
+   */
+
+  public static final class Builder<K, V> {
+
+    private final Function<K, V>        loader;
+    private Function<Set<K>, Map<K, V>> batchLoader;
+    private ToLongBiFunction<K, V>      weigher       = (k, v) -> 1;
+    private long                        maximumWeight = Long.MAX_VALUE;
+    private long                        ttl           = Long.MAX_VALUE;
+
+    private Builder(Function<K, V> loader) {
+      this.loader = loader;
+    }
+
+    /**
+     * @param size - the most entries to keep
+     * @return itself
+     */
+
+    public Builder<K, V> maximumSize(long size) {
+      return this.maximumWeight(size, (k, v) -> 1);
+    }
+
+    /**
+     * @param max - the most total weight of entries to keep
+     * @param entryWeight - returns the weight of a loaded entry
+     * @return itself
+     */
+
+    public Builder<K, V> maximumWeight(long max, ToLongBiFunction<K, V> entryWeight) {
+      if (max < 0) {
+        throw new IllegalArgumentException(Long.toString(max));
+      }
+      this.maximumWeight = max;
+      this.weigher = Objects.requireNonNull(entryWeight);
+      return this;
+    }
+
+    /**
+     * @param expiry - how long after loading an entry is kept
+     * @return itself
+     */
+
+    public Builder<K, V> expireAfterWrite(Duration expiry) {
+      if (expiry.isNegative() || expiry.isZero()) {
+        throw new IllegalArgumentException(expiry.toString());
+      }
+      this.ttl = expiry.toNanos();
+      return this;
+    }
+
+    /**
+     * @param loader - loads the values of many keys in one call; missing keys load as null
+     * @return itself
+     */
+
+    public Builder<K, V> batchLoader(Function<Set<K>, Map<K, V>> loader) {
+      this.batchLoader = loader;
+      return this;
+    }
+
+    /**
+     * @return new empty cache
+     */
+
+    public LazyCache<K, V> build() {
+      return new LazyCache<>(this);
+    }
+  }
+
+  /**
+   * The Stats class
+   *
+   * Snapshot of a cache's counters
+   */
+
+  public static final class Stats {
+
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+
+    private Stats(long hits, long misses, long evictions) {
+      this.hits = hits;
+      this.misses = misses;
+      this.evictions = evictions;
+    }
+
+    public long hits() {
+      return this.hits;
+    }
+
+    public long misses() {
+      return this.misses;
+    }
+
+    public long evictions() {
+      return this.evictions;
+    }
+
+    /**
+     * @return hits as a share of all lookups, or 1 if there were none
+     */
+
+    public double hitRate() {
+      long total = this.hits + this.misses;
+      return total == 0 ? 1 : (double) this.hits / total;
+    }
+
+    @Override
+    public String toString() {
+      return "hits=" + this.hits + " misses=" + this.misses + " evictions=" + this.evictions;
+    }
+  }
+
+  private static final class Node<K, V> {
+
+    private final K             key;
+    private final Lazy<V>       value;
+    private final AtomicBoolean admitted = new AtomicBoolean();
+    private volatile long       expiresAt;
+    private long                weight;
+
+    private Node(K key, Function<K, V> loader, long ttl) {
+      this.key = key;
+      this.value = Lazy.init(() -> {
+        V loaded = loader.apply(key);
+        this.expiresAt = ttl == Long.MAX_VALUE ? Long.MAX_VALUE : System.nanoTime() + ttl;
+        return loaded;
+      }, Lazy.Policy.cache());
+    }
+
+    private boolean isExpired() {
+      long expiry = this.expiresAt;
+      return expiry != 0 && expiry != Long.MAX_VALUE && System.nanoTime() - expiry >= 0;
+    }
+  }
+
+}
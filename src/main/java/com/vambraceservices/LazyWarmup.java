@@ -0,0 +1,237 @@
+package com.vambraceservices;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * The LazyWarmup class
+ *
+ * Loads a graph of named lazies ahead of first use. Each lazy is loaded once
+ * all its dependencies have loaded, so lazies that do not depend on each other
+ * load in parallel.
+ */
+
+public final class LazyWarmup {
+
+  private final Map<String, Lazy<?>>      lazies       = new LinkedHashMap<>();
+  private final Map<String, List<String>> dependencies = new HashMap<>();
+
+  /**
+   * @param name - unique name of the lazy, used for dependencies and the report
+   * @param lazy - lazy to load
+   * @param dependsOn - names of lazies that must load first
+   * @return itself
+   */
+
+  public LazyWarmup add(String name, Lazy<?> lazy, String... dependsOn) {
+    Objects.requireNonNull(lazy);
+    if (this.lazies.containsKey(name)) {
+      throw new IllegalArgumentException("duplicate lazy " + name);
+    }
+    this.lazies.put(name, lazy);
+    this.dependencies.put(name, Arrays.asList(dependsOn));
+    return this;
+  }
+
+  /**
+   * Loads on the default executor, which uses virtual threads when available
+   *
+   * @param deadline - how long to wait for the whole graph
+   * @return what loaded, what failed and what was still loading at the deadline
+   */
+
+  public Report run(Duration deadline) {
+    return this.run(deadline, DefaultExecutor.get());
+  }
+
+  /**
+   * @param deadline - how long to wait for the whole graph
+   * @param executor - runs the loaders
+   * @return what loaded, what failed and what was still loading at the deadline
+   * @throws IllegalStateException if the dependencies form a cycle
+   */
+
+  public Report run(Duration deadline, Executor executor) {
+    List<String> order = this.order();
+    Map<String, CompletableFuture<Duration>> futures = new HashMap<>();
+    for (String name : order) {
+      CompletableFuture<?>[] before = this.dependencies.get(name).stream()
+          .map(futures::get)
+          .toArray(CompletableFuture<?>[]::new);
+      Lazy<?> lazy = this.lazies.get(name);
+      futures.put(name, CompletableFuture.allOf(before).thenComposeAsync(ignored -> load(lazy, executor), executor));
+    }
+    CompletableFuture<Void> all = CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0]));
+    try {
+      all.get(deadline.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException | TimeoutException e) {
+      // reported per lazy below
+    }
+    Map<String, Duration> timings = new LinkedHashMap<>();
+    Map<String, Throwable> failures = new LinkedHashMap<>();
+    Set<String> pending = new LinkedHashSet<>();
+    for (String name : this.lazies.keySet()) {
+      CompletableFuture<Duration> future = futures.get(name);
+      if (!future.isDone()) {
+        pending.add(name);
+      } else if (future.isCompletedExceptionally()) {
+        failures.put(name, cause(future));
+      } else {
+        timings.put(name, future.join());
+      }
+    }
+    return new Report(timings, failures, pending);
+  }
+
+  private static CompletableFuture<Duration> load(Lazy<?> lazy, Executor executor) {
+    long start = System.nanoTime();
+    if (lazy instanceof AsyncLazy) {
+      return ((AsyncLazy<?>) lazy).toFuture().thenApply(ignored -> Duration.ofNanos(System.nanoTime() - start));
+    }
+    lazy.get();
+    return CompletableFuture.completedFuture(Duration.ofNanos(System.nanoTime() - start));
+  }
+
+  private static Throwable cause(CompletableFuture<?> future) {
+    try {
+      future.join();
+      return null;
+    } catch (CompletionException e) {
+      return Objects.isNull(e.getCause()) ? e : e.getCause();
+    } catch (RuntimeException e) {
+      return e;
+    }
+  }
+
+  /**
+   * @return names in an order where each comes after its dependencies
+   */
+
+  private List<String> order() {
+    Map<String, Integer> state = new HashMap<>();
+    List<String> order = new ArrayList<>(this.lazies.size());
+    for (String root : this.lazies.keySet()) {
+      if (state.containsKey(root)) {
+        continue;
+      }
+      Deque<String> path = new ArrayDeque<>();
+      Deque<Integer> next = new ArrayDeque<>();
+      path.push(root);
+      next.push(0);
+      state.put(root, 1);
+      while (!path.isEmpty()) {
+        String name = path.peek();
+        List<String> deps = this.dependencies.get(name);
+        int i = next.pop();
+        if (i == deps.size()) {
+          path.pop();
+          state.put(name, 2);
+          order.add(name);
+          continue;
+        }
+        next.push(i + 1);
+        String dep = deps.get(i);
+        if (!this.lazies.containsKey(dep)) {
+          throw new IllegalArgumentException(name + " depends on unknown lazy " + dep);
+        }
+        Integer seen = state.get(dep);
+        if (Objects.isNull(seen)) {
+          state.put(dep, 1);
+          path.push(dep);
+          next.push(0);
+        } else if (seen == 1) {
+          throw new IllegalStateException("cycle " + cycle(path, dep));
+        }
+      }
+    }
+    return order;
+  }
+
+  private static String cycle(Deque<String> path, String repeated) {
+    List<String> names = new ArrayList<>();
+    for (String name : path) {
+      names.add(0, name);
+      if (name.equals(repeated)) {
+        break;
+      }
+    }
+    names.add(repeated);
+    return String.join(" -> ", names);
+  }
+
+  /**
+   * The Report class
+   *
+   * Outcome of a warm up
+   */
+
+  public static final class Report {
+
+    private final Map<String, Duration>  timings;
+    private final Map<String, Throwable> failures;
+    private final Set<String>            pending;
+
+    private Report(Map<String, Duration> timings, Map<String, Throwable> failures, Set<String> pending) {
+      this.timings = Collections.unmodifiableMap(timings);
+      this.failures = Collections.unmodifiableMap(failures);
+      this.pending = Collections.unmodifiableSet(pending);
+    }
+
+    /**
+     * @return how long each loaded lazy took, not counting time waiting for dependencies
+     */
+
+    public Map<String, Duration> timings() {
+      return this.timings;
+    }
+
+    /**
+     * @return what each failed lazy threw; lazies whose dependencies failed are included
+     */
+
+    public Map<String, Throwable> failures() {
+      return this.failures;
+    }
+
+    /**
+     * @return lazies still loading, or waiting to, at the deadline
+     */
+
+    public Set<String> pending() {
+      return this.pending;
+    }
+
+    /**
+     * @return if every lazy loaded before the deadline
+     */
+
+    public boolean isComplete() {
+      return this.failures.isEmpty() && this.pending.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+      return "loaded=" + this.timings + " failed=" + this.failures.keySet() + " pending=" + this.pending;
+    }
+  }
+
+}
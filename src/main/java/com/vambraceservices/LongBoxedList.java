@@ -0,0 +1,222 @@
+package com.vambraceservices;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.stream.LongStream;
+
+/**
+ * The LongBoxedList class
+ *
+ * Primitive long sibling of BoxedList, backed by an array so items are not
+ * boxed. Contents are never modified after construction.
+ */
+
+public final class LongBoxedList {
+
+  private static final LongBoxedList EMPTY = new LongBoxedList(new long[0], true);
+
+  private final long[]  values;
+  private final boolean sorted;
+
+  /**
+   * @param values - array to store, not copied
+   * @param sorted - if the array is known to be in ascending order
+   */
+
+  private LongBoxedList(long[] values, boolean sorted) {
+    this.values = values;
+    this.sorted = sorted;
+  }
+
+  /**
+   * @param values - values to be stored, copied
+   * @return provided values stored in LongBoxedList
+   */
+
+  public static LongBoxedList of(long... values) {
+    if (Objects.isNull(values) || values.length == 0) {
+      return EMPTY;
+    }
+    return new LongBoxedList(values.clone(), false);
+  }
+
+  /**
+   * Takes ownership of the array, which must not be modified afterwards
+   *
+   * @param values - values to be stored, not copied
+   * @return provided values stored in LongBoxedList
+   */
+
+  static LongBoxedList wrap(long[] values) {
+    if (values.length == 0) {
+      return EMPTY;
+    }
+    return new LongBoxedList(values, false);
+  }
+
+  /**
+   * @return the shared empty list
+   */
+
+  public static LongBoxedList empty() {
+    return EMPTY;
+  }
+
+  /**
+   * @return if this list has no items
+   */
+
+  public boolean isEmpty() {
+    return this.values.length == 0;
+  }
+
+  public boolean isNotEmpty() {
+    return !isEmpty();
+  }
+
+  /**
+   * @return either the first item in the list, or an empty optional
+   */
+
+  public OptionalLong first() {
+    if (this.isNotEmpty()) {
+      return OptionalLong.of(this.values[0]);
+    }
+    return OptionalLong.empty();
+  }
+
+  /**
+   * @return either a copy of the items, or an empty array
+   */
+
+  public long[] get() {
+    return this.values.clone();
+  }
+
+  /**
+   * @param index - position of the item
+   * @return the item at the index
+   */
+
+  public long get(int index) {
+    return this.values[index];
+  }
+
+  /**
+   * @return the number of items
+   */
+
+  public int size() {
+    return this.values.length;
+  }
+
+  /**
+   * @return stream of the items, or an empty stream
+   */
+
+  public LongStream stream() {
+    return Arrays.stream(this.values);
+  }
+
+  /**
+   * @return the sum of all items, or zero
+   */
+
+  public long sum() {
+    long total = 0;
+    for (long value : this.values) {
+      total += value;
+    }
+    return total;
+  }
+
+  /**
+   * @return either the smallest item, or an empty optional
+   */
+
+  public OptionalLong min() {
+    if (this.isEmpty()) {
+      return OptionalLong.empty();
+    }
+    if (this.sorted) {
+      return OptionalLong.of(this.values[0]);
+    }
+    long min = this.values[0];
+    for (int i = 1; i < this.values.length; i++) {
+      min = Math.min(min, this.values[i]);
+    }
+    return OptionalLong.of(min);
+  }
+
+  /**
+   * @return either the largest item, or an empty optional
+   */
+
+  public OptionalLong max() {
+    if (this.isEmpty()) {
+      return OptionalLong.empty();
+    }
+    if (this.sorted) {
+      return OptionalLong.of(this.values[this.values.length - 1]);
+    }
+    long max = this.values[0];
+    for (int i = 1; i < this.values.length; i++) {
+      max = Math.max(max, this.values[i]);
+    }
+    return OptionalLong.of(max);
+  }
+
+  /**
+   * @return new list with the items in ascending order, or this list if already sorted
+   */
+
+  public LongBoxedList sort() {
+    if (this.sorted) {
+      return this;
+    }
+    long[] copy = this.values.clone();
+    Arrays.sort(copy);
+    return new LongBoxedList(copy, true);
+  }
+
+  /**
+   * @return if the items are known to be in ascending order
+   */
+
+  public boolean isSorted() {
+    return this.sorted;
+  }
+
+  /**
+   * Only valid on a sorted list
+   *
+   * @param key - value to search for
+   * @return index of the key, or (-(insertion point) - 1) if not found
+   */
+
+  public int binarySearch(long key) {
+    if (!this.sorted) {
+      throw new IllegalStateException("list is not sorted");
+    }
+    return Arrays.binarySearch(this.values, key);
+  }
+
+  /**
+   * @return the items as a BoxedList
+   */
+
+  public BoxedList<Long> boxed() {
+    if (this.isEmpty()) {
+      return BoxedList.empty();
+    }
+    List<Long> list = new ArrayList<>(this.values.length);
+    for (long value : this.values) {
+      list.add(value);
+    }
+    return new BoxedList<>(list);
+  }
+
+}
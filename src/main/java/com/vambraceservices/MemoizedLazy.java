@@ -0,0 +1,102 @@
+package com.vambraceservices;
+
+import java.util.function.Supplier;
+
+/**
+ * The MemoizedLazy class
+ *
+ * A Lazy that loads its value once and keeps it for good. Once loaded, reads
+ * do not lock. If the loader throws, the policy decides what later calls to
+ * get do.
+ *
+ * @param <V> type of returned value
+ */
+
+final class MemoizedLazy<V> extends Lazy<V> {
+
+  private static final Object UNSET = new Object();
+
+  private volatile Object value = UNSET;
+  private Supplier<V>     supplier;
+  private final Policy    policy;
+  private int             failures;
+  private long            retryAt;
+
+  /**
+   * @param s - value to store
+   * @param p - policy for failed loads
+   */
+
+  MemoizedLazy(final Supplier<V> s, final Policy p) {
+    this.supplier = s;
+    this.policy = p;
+  }
+
+  /**
+   * Once loaded, reads the value without locking. The loader is called by
+   * one thread at a time, and a null result is kept like any other value
+   *
+   * @return - inner value after callings supplier if not there
+   */
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V get() {
+    Object current = this.value;
+    if (current != UNSET && !(current instanceof Failure)) {
+      return (V) current;
+    }
+    return this.load();
+  }
+
+  /**
+   * @return if the value has been loaded
+   */
+
+  @Override
+  public boolean isLoaded() {
+    Object current = this.value;
+    return current != UNSET && !(current instanceof Failure);
+  }
+
+  @SuppressWarnings("unchecked")
+  private synchronized V load() {
+    Object current = this.value;
+    if (current instanceof Failure) {
+      if (this.policy.caches() || System.nanoTime() - this.retryAt < 0) {
+        throw ((Failure) current).rethrow();
+      }
+    } else if (current != UNSET) {
+      return (V) current;
+    }
+    V loaded;
+    try {
+      loaded = this.supplier.get();
+    } catch (RuntimeException | Error e) {
+      this.failures++;
+      this.retryAt = System.nanoTime() + this.policy.backoff(this.failures);
+      this.value = new Failure(e);
+      throw e;
+    }
+    this.value = loaded;
+    this.supplier = null;
+    return loaded;
+  }
+
+  private static final class Failure {
+
+    private final Throwable error;
+
+    private Failure(Throwable error) {
+      this.error = error;
+    }
+
+    private RuntimeException rethrow() {
+      if (this.error instanceof Error) {
+        throw (Error) this.error;
+      }
+      return (RuntimeException) this.error;
+    }
+  }
+
+}
@@ -0,0 +1,318 @@
+package com.vambraceservices;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The OffHeapBoxedList class
+ *
+ * A BoxedList whose items are encoded into direct buffers by a codec and
+ * decoded on every read, so they are not held on the heap. Items are written
+ * in chunks; an item never spans two chunks. Variable width items are
+ * prefixed with their length, and their positions are kept in one long array.
+ * Items cannot be null, since codecs have no encoding for them.
+ *
+ * Lists can also be memory mapped from a file in the same layout, in which
+ * case close unmaps the file.
+ *
+ * The memory is released by close, after which reads throw IllegalStateException.
+ * Close must not be called while other threads may still be reading.
+ *
+ * @param <L> stored type
+ */
+
+public final class OffHeapBoxedList<L> extends IndexedBoxedList<L> implements AutoCloseable {
+
+  static final int DEFAULT_CHUNK_SIZE  = 64 * 1024 * 1024;
+  static final int DEFAULT_REGION_SIZE = Integer.MAX_VALUE;
+  static final int WRITE_BUFFER_SIZE   = 64 * 1024;
+
+  private final BoxedCodec<L> codec;
+  private final int           size;
+  private final int           perChunk;
+  private final long[]        positions;
+
+  private volatile ByteBuffer[] chunks;
+
+  private OffHeapBoxedList(BoxedCodec<L> codec, ByteBuffer[] chunks, int size, int perChunk, long[] positions) {
+    this.codec = codec;
+    this.chunks = chunks;
+    this.size = size;
+    this.perChunk = perChunk;
+    this.positions = positions;
+  }
+
+  /**
+   * @param <L> - type of stored value
+   * @param items - items to encode, may be null
+   * @param codec - encodes and decodes each item
+   * @return new list holding the encoded items
+   * @throws NullPointerException if any item is null
+   */
+
+  public static <L> OffHeapBoxedList<L> of(Collection<L> items, BoxedCodec<L> codec) {
+    return of(items, codec, DEFAULT_CHUNK_SIZE);
+  }
+
+  /**
+   * @param <L> - type of stored value
+   * @param items - items to encode, may be null
+   * @param codec - encodes and decodes each item
+   * @param chunkSize - the size in bytes of each direct buffer
+   * @return new list holding the encoded items
+   * @throws NullPointerException if any item is null
+   */
+
+  public static <L> OffHeapBoxedList<L> of(Collection<L> items, BoxedCodec<L> codec, int chunkSize) {
+    Collection<L> source = Objects.isNull(items) ? Collections.emptyList() : items;
+    if (codec.width() == BoxedCodec.VARIABLE_WIDTH) {
+      return variable(source, codec, chunkSize);
+    }
+    return fixed(source, codec, chunkSize);
+  }
+
+  private static <L> OffHeapBoxedList<L> fixed(Collection<L> items, BoxedCodec<L> codec, int chunkSize) {
+    int width = codec.width();
+    if (width < 1 || width > chunkSize) {
+      throw new IllegalArgumentException("width " + width + " does not fit chunk size " + chunkSize);
+    }
+    int perChunk = chunkSize / width;
+    int size = items.size();
+    ByteBuffer[] chunks = new ByteBuffer[chunkCount(size, perChunk)];
+    int index = 0;
+    for (L item : items) {
+      int chunk = index / perChunk;
+      if (Objects.isNull(chunks[chunk])) {
+        chunks[chunk] = ByteBuffer.allocateDirect(Math.min(size - index, perChunk) * width);
+      }
+      codec.write(chunks[chunk], (index % perChunk) * width, checked(item, index));
+      index++;
+    }
+    return new OffHeapBoxedList<>(codec, chunks, size, perChunk, null);
+  }
+
+  private static <L> OffHeapBoxedList<L> variable(Collection<L> items, BoxedCodec<L> codec, int chunkSize) {
+    List<ByteBuffer> chunks = new ArrayList<>();
+    long[] positions = new long[items.size()];
+    ByteBuffer current = null;
+    int index = 0;
+    for (L item : items) {
+      int length = codec.sizeOf(checked(item, index));
+      int required = Integer.BYTES + length;
+      if (Objects.isNull(current) || current.remaining() < required) {
+        current = ByteBuffer.allocateDirect(Math.max(chunkSize, required));
+        chunks.add(current);
+      }
+      int offset = current.position();
+      current.putInt(offset, length);
+      codec.write(current, offset + Integer.BYTES, item);
+      current.position(offset + required);
+      positions[index++] = ((long) (chunks.size() - 1) << 32) | offset;
+    }
+    return new OffHeapBoxedList<>(codec, chunks.toArray(new ByteBuffer[0]), index, 0, positions);
+  }
+
+  /**
+   * @param <L> - type of stored value
+   * @param path - file written by save, with the same codec
+   * @param codec - decodes each item
+   * @return new list decoding items from the mapped file
+   * @throws IOException if the file cannot be mapped, or is not in the codec's layout
+   */
+
+  public static <L> OffHeapBoxedList<L> mapped(Path path, BoxedCodec<L> codec) throws IOException {
+    return mapped(path, codec, DEFAULT_REGION_SIZE);
+  }
+
+  /**
+   * @param <L> - type of stored value
+   * @param path - file written by save, with the same codec
+   * @param codec - decodes each item
+   * @param regionSize - the largest number of bytes mapped into one buffer
+   * @return new list decoding items from the mapped file
+   * @throws IOException if the file cannot be mapped, or is not in the codec's layout
+   */
+
+  public static <L> OffHeapBoxedList<L> mapped(Path path, BoxedCodec<L> codec, int regionSize) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      if (codec.width() == BoxedCodec.VARIABLE_WIDTH) {
+        return mappedVariable(channel, codec, regionSize);
+      }
+      return mappedFixed(channel, codec, regionSize);
+    }
+  }
+
+  private static <L> OffHeapBoxedList<L> mappedFixed(FileChannel channel, BoxedCodec<L> codec, int regionSize)
+      throws IOException {
+    int width = codec.width();
+    long length = channel.size();
+    if (width < 1 || width > regionSize) {
+      throw new IllegalArgumentException("width " + width + " does not fit region size " + regionSize);
+    }
+    if (length % width != 0 || length / width > Integer.MAX_VALUE) {
+      throw new IOException("file length " + length + " is not a valid number of " + width + " byte items");
+    }
+    int size = (int) (length / width);
+    int perChunk = regionSize / width;
+    ByteBuffer[] chunks = new ByteBuffer[chunkCount(size, perChunk)];
+    for (int i = 0; i < chunks.length; i++) {
+      long start = (long) i * perChunk * width;
+      chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min((long) perChunk * width, length - start));
+    }
+    return new OffHeapBoxedList<>(codec, chunks, size, perChunk, null);
+  }
+
+  private static <L> OffHeapBoxedList<L> mappedVariable(FileChannel channel, BoxedCodec<L> codec, int regionSize)
+      throws IOException {
+    long length = channel.size();
+    List<ByteBuffer> chunks = new ArrayList<>();
+    long[] positions = new long[16];
+    int size = 0;
+    long start = 0;
+    while (start < length) {
+      ByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(regionSize, length - start));
+      int offset = 0;
+      while (region.limit() - offset >= Integer.BYTES) {
+        int itemLength = region.getInt(offset);
+        if (itemLength < 0) {
+          throw new IOException("item at " + (start + offset) + " has negative length " + itemLength);
+        }
+        if (itemLength > region.limit() - offset - Integer.BYTES) {
+          break;
+        }
+        if (size == positions.length) {
+          positions = Arrays.copyOf(positions, size * 2);
+        }
+        positions[size++] = ((long) chunks.size() << 32) | offset;
+        offset += Integer.BYTES + itemLength;
+      }
+      if (offset == 0) {
+        throw new IOException("item at " + start + " is truncated or does not fit region size " + regionSize);
+      }
+      chunks.add(region);
+      start += offset;
+    }
+    return new OffHeapBoxedList<>(codec, chunks.toArray(new ByteBuffer[0]), size, 0, Arrays.copyOf(positions, size));
+  }
+
+  /**
+   * Writes items in the layout read by mapped
+   *
+   * @param <L> - type of stored value
+   * @param items - items to encode
+   * @param codec - encodes each item
+   * @param path - file to create or replace
+   * @throws IOException if the file cannot be written
+   * @throws NullPointerException if any item is null
+   */
+
+  static <L> void save(Iterable<L> items, BoxedCodec<L> codec, Path path) throws IOException {
+    boolean variable = codec.width() == BoxedCodec.VARIABLE_WIDTH;
+    ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+    int index = 0;
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                StandardOpenOption.TRUNCATE_EXISTING)) {
+      for (L item : items) {
+        int length = codec.sizeOf(checked(item, index++));
+        int required = variable ? Integer.BYTES + length : length;
+        if (buffer.remaining() < required) {
+          flush(channel, buffer);
+        }
+        ByteBuffer target = buffer.capacity() < required ? ByteBuffer.allocate(required) : buffer;
+        int offset = target.position();
+        if (variable) {
+          target.putInt(offset, length);
+          offset += Integer.BYTES;
+        }
+        codec.write(target, offset, item);
+        target.position(offset + length);
+        if (target != buffer) {
+          flush(channel, target);
+        }
+      }
+      flush(channel, buffer);
+    }
+  }
+
+  private static int chunkCount(int size, int perChunk) {
+    return size / perChunk + (size % perChunk == 0 ? 0 : 1);
+  }
+
+  private static <L> L checked(L item, int index) {
+    if (Objects.isNull(item)) {
+      throw new NullPointerException("item " + index + " is null, off heap lists cannot hold nulls");
+    }
+    return item;
+  }
+
+  private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    buffer.clear();
+  }
+
+  /**
+   * @param index - position of the item
+   * @return the decoded item
+   */
+
+  @Override
+  public L get(int index) {
+    ByteBuffer[] current = this.open();
+    if (index < 0 || index >= this.size) {
+      throw new IndexOutOfBoundsException(Integer.toString(index));
+    }
+    if (Objects.isNull(this.positions)) {
+      int width = this.codec.width();
+      return this.codec.read(current[index / this.perChunk], (index % this.perChunk) * width, width);
+    }
+    long position = this.positions[index];
+    ByteBuffer chunk = current[(int) (position >>> 32)];
+    int offset = (int) position;
+    return this.codec.read(chunk, offset + Integer.BYTES, chunk.getInt(offset));
+  }
+
+  @Override
+  public int size() {
+    this.open();
+    return this.size;
+  }
+
+  /**
+   * Releases the direct buffers, or unmaps the file. Safe to call more than once
+   */
+
+  @Override
+  public void close() {
+    ByteBuffer[] current;
+    synchronized (this) {
+      current = this.chunks;
+      this.chunks = null;
+    }
+    if (Objects.nonNull(current)) {
+      for (ByteBuffer chunk : current) {
+        DirectBuffers.release(chunk);
+      }
+    }
+  }
+
+  private ByteBuffer[] open() {
+    ByteBuffer[] current = this.chunks;
+    if (Objects.isNull(current)) {
+      throw new IllegalStateException("list is closed");
+    }
+    return current;
+  }
+
+}
@@ -0,0 +1,72 @@
+package com.vambraceservices;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+/**
+ * Groups a range of a random access list into a partial map of downstream
+ * containers, splitting in halves until a range is no larger than the grain,
+ * then merges the partial maps of both halves.
+ *
+ * @param <L> source type
+ * @param <K> key type
+ * @param <A> downstream container type
+ */
+
+final class ParallelGroupTask<L, K, A> extends RecursiveTask<Map<K, A>> {
+
+  private static final long serialVersionUID = 1L;
+
+  private final List<L>            source;
+  private final Function<L, K>     key;
+  private final Collector<L, A, ?> downstream;
+  private final int                grain;
+  private final int                from;
+  private final int                to;
+
+  /**
+   * @param source - random access list to read from
+   * @param key - returns the key of each item
+   * @param downstream - collects the items of each key
+   * @param grain - largest range grouped without splitting
+   * @param from - start index, inclusive
+   * @param to - end index, exclusive
+   */
+
+  ParallelGroupTask(List<L> source, Function<L, K> key, Collector<L, A, ?> downstream, int grain, int from, int to) {
+    this.source = source;
+    this.key = key;
+    this.downstream = downstream;
+    this.grain = grain;
+    this.from = from;
+    this.to = to;
+  }
+
+  @Override
+  protected Map<K, A> compute() {
+    if (this.to - this.from <= this.grain) {
+      Map<K, A> partial = new HashMap<>();
+      for (int i = this.from; i < this.to; i++) {
+        L item = this.source.get(i);
+        A container = partial.computeIfAbsent(this.key.apply(item), k -> this.downstream.supplier().get());
+        this.downstream.accumulator().accept(container, item);
+      }
+      return partial;
+    }
+    int middle = (this.from + this.to) >>> 1;
+    ParallelGroupTask<L, K, A> left =
+        new ParallelGroupTask<>(this.source, this.key, this.downstream, this.grain, this.from, middle);
+    ParallelGroupTask<L, K, A> right =
+        new ParallelGroupTask<>(this.source, this.key, this.downstream, this.grain, middle, this.to);
+    left.fork();
+    Map<K, A> later = right.compute();
+    Map<K, A> merged = left.join();
+    later.forEach((k, container) -> merged.merge(k, container, this.downstream.combiner()));
+    return merged;
+  }
+
+}
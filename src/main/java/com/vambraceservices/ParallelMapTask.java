@@ -0,0 +1,57 @@
+package com.vambraceservices;
+
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+/**
+ * Maps a range of a random access list into the same range of an array,
+ * splitting in halves until a range is no larger than the grain.
+ *
+ * @param <L> source type
+ * @param <R> result type
+ */
+
+final class ParallelMapTask<L, R> extends RecursiveAction {
+
+  private static final long serialVersionUID = 1L;
+
+  private final List<L>        source;
+  private final Object[]       target;
+  private final Function<L, R> function;
+  private final int            grain;
+  private final int            from;
+  private final int            to;
+
+  /**
+   * @param source - random access list to read from
+   * @param target - array to write results to, at the same index
+   * @param function - to execute on each item
+   * @param grain - largest range mapped without splitting
+   * @param from - start index, inclusive
+   * @param to - end index, exclusive
+   */
+
+  ParallelMapTask(List<L> source, Object[] target, Function<L, R> function, int grain, int from, int to) {
+    this.source = source;
+    this.target = target;
+    this.function = function;
+    this.grain = grain;
+    this.from = from;
+    this.to = to;
+  }
+
+  @Override
+  protected void compute() {
+    if (this.to - this.from <= this.grain) {
+      for (int i = this.from; i < this.to; i++) {
+        this.target[i] = this.function.apply(this.source.get(i));
+      }
+      return;
+    }
+    int middle = (this.from + this.to) >>> 1;
+    invokeAll(new ParallelMapTask<>(this.source, this.target, this.function, this.grain, this.from, middle),
+              new ParallelMapTask<>(this.source, this.target, this.function, this.grain, middle, this.to));
+  }
+
+}
@@ -0,0 +1,417 @@
+package com.vambraceservices;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The PersistentBoxedList class
+ *
+ * An immutable BoxedList where with, set, concat and slice return new lists
+ * that share structure with this one, so every version stays cheap to keep.
+ * Items are held in a 32 way trie with the last (up to) 32 items in a tail
+ * array, giving effectively constant O(log32 n) reads and updates.
+ *
+ * Slices are views of the list they were taken from, and keep it reachable.
+ * Use a Transient to build a large list without creating every version.
+ *
+ * @param <L> stored type
+ */
+
+public final class PersistentBoxedList<L> extends IndexedBoxedList<L> {
+
+  private static final int BITS  = 5;
+  private static final int WIDTH = 1 << BITS;
+  private static final int MASK  = WIDTH - 1;
+
+  private static final Node                   EMPTY_NODE = new Node(null, new Object[WIDTH]);
+  private static final PersistentBoxedList<?> EMPTY      = new PersistentBoxedList<>(Vector.EMPTY, 0, 0);
+
+  private final Vector vector;
+  private final int    start;
+  private final int    end;
+
+  private PersistentBoxedList(Vector vector, int start, int end) {
+    this.vector = vector;
+    this.start = start;
+    this.end = end;
+  }
+
+  /**
+   * @param <L> - type of stored value
+   * @return the shared empty persistent list
+   */
+
+  @SuppressWarnings("unchecked")
+  public static <L> PersistentBoxedList<L> empty() {
+    return (PersistentBoxedList<L>) EMPTY;
+  }
+
+  /**
+   * @param <L> - type of stored value
+   * @param items - items to store, may be null
+   * @return new persistent list of the items
+   */
+
+  public static <L> PersistentBoxedList<L> copyOf(Iterable<L> items) {
+    Transient<L> builder = builder();
+    return builder.addAll(items).persistent();
+  }
+
+  /**
+   * @param <L> - type of stored value
+   * @return new transient to build a persistent list in place
+   */
+
+  public static <L> Transient<L> builder() {
+    return new Transient<>(Vector.EMPTY);
+  }
+
+  /**
+   * @return new transient starting from the items of this list
+   */
+
+  public Transient<L> asTransient() {
+    if (this.start == 0 && this.end == this.vector.count) {
+      return new Transient<>(this.vector);
+    }
+    return new Transient<L>(Vector.EMPTY).addAll(this.view());
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public L get(int index) {
+    if (index < 0 || index >= this.size()) {
+      throw new IndexOutOfBoundsException(Integer.toString(index));
+    }
+    return (L) this.vector.get(this.start + index);
+  }
+
+  @Override
+  public int size() {
+    return this.end - this.start;
+  }
+
+  /**
+   * @param item - item to append
+   * @return new list with the item appended
+   */
+
+  public PersistentBoxedList<L> with(L item) {
+    if (this.end == this.vector.count) {
+      return new PersistentBoxedList<>(this.vector.append(item), this.start, this.end + 1);
+    }
+    return new PersistentBoxedList<>(this.vector.set(this.end, item), this.start, this.end + 1);
+  }
+
+  /**
+   * @param index - position of the item to replace
+   * @param item - replacement item
+   * @return new list with the item replaced
+   */
+
+  public PersistentBoxedList<L> set(int index, L item) {
+    if (index < 0 || index >= this.size()) {
+      throw new IndexOutOfBoundsException(Integer.toString(index));
+    }
+    return new PersistentBoxedList<>(this.vector.set(this.start + index, item), this.start, this.end);
+  }
+
+  /**
+   * @param other - list whose items are appended, may be null
+   * @return new list with the other list's items appended
+   */
+
+  public PersistentBoxedList<L> concat(BoxedList<L> other) {
+    if (Objects.isNull(other) || other.isEmpty()) {
+      return this;
+    }
+    if (this.isEmpty() && other instanceof PersistentBoxedList) {
+      return (PersistentBoxedList<L>) other;
+    }
+    Transient<L> builder = this.asTransient();
+    other.traverse(item -> {
+      builder.add(item);
+      return true;
+    });
+    return builder.persistent();
+  }
+
+  /**
+   * @param from - start index, inclusive
+   * @param to - end index, exclusive
+   * @return new list of the items in the range, sharing this list's structure
+   */
+
+  public PersistentBoxedList<L> slice(int from, int to) {
+    if (from < 0 || to > this.size() || from > to) {
+      throw new IndexOutOfBoundsException(from + ", " + to);
+    }
+    if (from == to) {
+      return empty();
+    }
+    return new PersistentBoxedList<>(this.vector, this.start + from, this.start + to);
+  }
+
+  /**
+   * The Transient class
+   *
+   * Builds a persistent list by updating nodes in place. Must only be used by
+   * one thread, and not after persistent has been called.
+   *
+   * @param <L> stored type
+   */
+
+  public static final class Transient<L> {
+
+    private Object   edit = new Object();
+    private int      count;
+    private int      shift;
+    private Node     root;
+    private Object[] tail;
+
+    private Transient(Vector vector) {
+      this.count = vector.count;
+      this.shift = vector.shift;
+      this.root = new Node(this.edit, vector.root.array.clone());
+      this.tail = Arrays.copyOf(vector.tail, WIDTH);
+    }
+
+    /**
+     * @param item - item to append
+     * @return itself
+     */
+
+    public Transient<L> add(L item) {
+      this.active();
+      if (this.count - tailOffset(this.count) < WIDTH) {
+        this.tail[this.count & MASK] = item;
+        this.count++;
+        return this;
+      }
+      Node tailNode = new Node(this.edit, this.tail);
+      this.tail = new Object[WIDTH];
+      this.tail[0] = item;
+      if ((this.count >>> BITS) > (1 << this.shift)) {
+        Node newRoot = new Node(this.edit, new Object[WIDTH]);
+        newRoot.array[0] = this.root;
+        newRoot.array[1] = newPath(this.edit, this.shift, tailNode);
+        this.root = newRoot;
+        this.shift += BITS;
+      } else {
+        this.root = this.pushTail(this.shift, this.root, tailNode);
+      }
+      this.count++;
+      return this;
+    }
+
+    /**
+     * @param items - items to append, may be null
+     * @return itself
+     */
+
+    public Transient<L> addAll(Iterable<L> items) {
+      if (Objects.nonNull(items)) {
+        for (L item : items) {
+          this.add(item);
+        }
+      }
+      return this;
+    }
+
+    /**
+     * @param index - position of the item to replace
+     * @param item - replacement item
+     * @return itself
+     */
+
+    public Transient<L> set(int index, L item) {
+      this.active();
+      if (index < 0 || index >= this.count) {
+        throw new IndexOutOfBoundsException(Integer.toString(index));
+      }
+      if (index >= tailOffset(this.count)) {
+        this.tail[index & MASK] = item;
+      } else {
+        this.root = this.assoc(this.shift, this.root, index, item);
+      }
+      return this;
+    }
+
+    /**
+     * @return the number of items added
+     */
+
+    public int size() {
+      return this.count;
+    }
+
+    /**
+     * Ends this transient; later calls throw IllegalStateException
+     *
+     * @return persistent list of the items
+     */
+
+    public PersistentBoxedList<L> persistent() {
+      this.active();
+      this.edit = null;
+      if (this.count == 0) {
+        return empty();
+      }
+      Object[] trimmed = Arrays.copyOf(this.tail, this.count - tailOffset(this.count));
+      return new PersistentBoxedList<>(new Vector(this.count, this.shift, this.root, trimmed), 0, this.count);
+    }
+
+    private void active() {
+      if (Objects.isNull(this.edit)) {
+        throw new IllegalStateException("transient used after persistent");
+      }
+    }
+
+    private Node editable(Node node) {
+      if (node.edit == this.edit) {
+        return node;
+      }
+      return new Node(this.edit, node.array.clone());
+    }
+
+    private Node pushTail(int level, Node parent, Node tailNode) {
+      Node result = this.editable(parent);
+      int index = ((this.count - 1) >>> level) & MASK;
+      Node insert;
+      if (level == BITS) {
+        insert = tailNode;
+      } else {
+        Node child = (Node) result.array[index];
+        insert = Objects.nonNull(child)
+                 ? this.pushTail(level - BITS, child, tailNode)
+                 : newPath(this.edit, level - BITS, tailNode);
+      }
+      result.array[index] = insert;
+      return result;
+    }
+
+    private Node assoc(int level, Node node, int index, Object item) {
+      Node result = this.editable(node);
+      if (level == 0) {
+        result.array[index & MASK] = item;
+      } else {
+        int child = (index >>> level) & MASK;
+        result.array[child] = this.assoc(level - BITS, (Node) result.array[child], index, item);
+      }
+      return result;
+    }
+  }
+
+  private static int tailOffset(int count) {
+    if (count < WIDTH) {
+      return 0;
+    }
+    return ((count - 1) >>> BITS) << BITS;
+  }
+
+  private static Node newPath(Object edit, int level, Node node) {
+    if (level == 0) {
+      return node;
+    }
+    Node result = new Node(edit, new Object[WIDTH]);
+    result.array[0] = newPath(edit, level - BITS, node);
+    return result;
+  }
+
+  private static final class Node {
+
+    private final Object   edit;
+    private final Object[] array;
+
+    private Node(Object edit, Object[] array) {
+      this.edit = edit;
+      this.array = array;
+    }
+  }
+
+  private static final class Vector {
+
+    private static final Vector EMPTY = new Vector(0, BITS, EMPTY_NODE, new Object[0]);
+
+    private final int      count;
+    private final int      shift;
+    private final Node     root;
+    private final Object[] tail;
+
+    private Vector(int count, int shift, Node root, Object[] tail) {
+      this.count = count;
+      this.shift = shift;
+      this.root = root;
+      this.tail = tail;
+    }
+
+    private Object[] arrayFor(int index) {
+      if (index >= tailOffset(this.count)) {
+        return this.tail;
+      }
+      Node node = this.root;
+      for (int level = this.shift; level > 0; level -= BITS) {
+        node = (Node) node.array[(index >>> level) & MASK];
+      }
+      return node.array;
+    }
+
+    private Object get(int index) {
+      return this.arrayFor(index)[index & MASK];
+    }
+
+    private Vector set(int index, Object item) {
+      if (index >= tailOffset(this.count)) {
+        Object[] newTail = this.tail.clone();
+        newTail[index & MASK] = item;
+        return new Vector(this.count, this.shift, this.root, newTail);
+      }
+      return new Vector(this.count, this.shift, assoc(this.shift, this.root, index, item), this.tail);
+    }
+
+    private Vector append(Object item) {
+      if (this.count - tailOffset(this.count) < WIDTH) {
+        Object[] newTail = Arrays.copyOf(this.tail, this.tail.length + 1);
+        newTail[this.tail.length] = item;
+        return new Vector(this.count + 1, this.shift, this.root, newTail);
+      }
+      Node tailNode = new Node(null, this.tail);
+      if ((this.count >>> BITS) > (1 << this.shift)) {
+        Node newRoot = new Node(null, new Object[WIDTH]);
+        newRoot.array[0] = this.root;
+        newRoot.array[1] = newPath(null, this.shift, tailNode);
+        return new Vector(this.count + 1, this.shift + BITS, newRoot, new Object[] {item});
+      }
+      return new Vector(this.count + 1, this.shift, this.pushTail(this.shift, this.root, tailNode),
+                        new Object[] {item});
+    }
+
+    private Node pushTail(int level, Node parent, Node tailNode) {
+      int index = ((this.count - 1) >>> level) & MASK;
+      Node result = new Node(null, parent.array.clone());
+      Node insert;
+      if (level == BITS) {
+        insert = tailNode;
+      } else {
+        Node child = (Node) parent.array[index];
+        insert = Objects.nonNull(child)
+                 ? this.pushTail(level - BITS, child, tailNode)
+                 : newPath(null, level - BITS, tailNode);
+      }
+      result.array[index] = insert;
+      return result;
+    }
+
+    private static Node assoc(int level, Node node, int index, Object item) {
+      Node result = new Node(null, node.array.clone());
+      if (level == 0) {
+        result.array[index & MASK] = item;
+      } else {
+        int child = (index >>> level) & MASK;
+        result.array[child] = assoc(level - BITS, (Node) node.array[child], index, item);
+      }
+      return result;
+    }
+  }
+
+}
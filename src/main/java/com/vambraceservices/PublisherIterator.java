@@ -0,0 +1,155 @@
+package com.vambraceservices;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+
+/**
+ * Adapts a Flow.Publisher to a blocking Iterator. No more than bufferSize
+ * items are ever requested ahead of the consumer, and demand is replenished
+ * in batches of half the buffer as items are taken.
+ *
+ * @param <L> published type
+ */
+
+final class PublisherIterator<L> implements Iterator<L>, Flow.Subscriber<L>, AutoCloseable {
+
+  private static final Object COMPLETE = new Object();
+
+  private final Flow.Publisher<L>     publisher;
+  private final BlockingQueue<Object> queue;
+  private final int                   bufferSize;
+  private final int                   batch;
+
+  private volatile Flow.Subscription subscription;
+  private volatile boolean           cancelled;
+  private volatile boolean           violated;
+  private boolean                    subscribed;
+  private Object                     next;
+  private int                        taken;
+
+  /**
+   * @param publisher - subscribed to on the first pull
+   * @param bufferSize - the most items requested but not yet taken
+   */
+
+  PublisherIterator(Flow.Publisher<L> publisher, int bufferSize) {
+    if (bufferSize < 1) {
+      throw new IllegalArgumentException(Integer.toString(bufferSize));
+    }
+    this.publisher = publisher;
+    this.bufferSize = bufferSize;
+    this.batch = Math.max(1, bufferSize / 2);
+    this.queue = new ArrayBlockingQueue<>(bufferSize + 1);
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (Objects.isNull(this.next)) {
+      if (!this.subscribed) {
+        this.subscribed = true;
+        this.publisher.subscribe(this);
+      }
+      try {
+        this.next = this.queue.take();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        this.close();
+        throw new CompletionException(e);
+      }
+    }
+    if (this.next instanceof Failure) {
+      throw new CompletionException(((Failure) this.next).error);
+    }
+    return this.next != COMPLETE;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public L next() {
+    if (!this.hasNext()) {
+      throw new NoSuchElementException();
+    }
+    L item = (L) this.next;
+    this.next = null;
+    if (++this.taken == this.batch) {
+      this.taken = 0;
+      this.subscription.request(this.batch);
+    }
+    return item;
+  }
+
+  @Override
+  public void onSubscribe(Flow.Subscription s) {
+    if (Objects.nonNull(this.subscription) || this.cancelled) {
+      s.cancel();
+      return;
+    }
+    this.subscription = s;
+    s.request(this.bufferSize);
+  }
+
+  /**
+   * A publisher sending more than was requested breaks the Flow protocol;
+   * the subscription is cancelled, and the consumer gets the error in place
+   * of the items still buffered
+   */
+
+  @Override
+  public void onNext(L item) {
+    if (this.violated) {
+      return;
+    }
+    if (!this.queue.offer(item)) {
+      this.violated = true;
+      this.close();
+      this.queue.clear();
+      this.queue.offer(new Failure(new IllegalStateException(
+          "publisher sent more than the " + this.bufferSize + " items requested")));
+    }
+  }
+
+  @Override
+  public void onError(Throwable throwable) {
+    if (!this.violated) {
+      this.queue.offer(new Failure(throwable));
+    }
+  }
+
+  @Override
+  public void onComplete() {
+    if (!this.violated) {
+      this.queue.offer(COMPLETE);
+    }
+  }
+
+  /**
+   * Cancels the subscription, for when the consumer stops early
+   */
+
+  @Override
+  public void close() {
+    if (this.cancelled) {
+      return;
+    }
+    this.cancelled = true;
+    Flow.Subscription current = this.subscription;
+    if (Objects.nonNull(current)) {
+      current.cancel();
+    }
+  }
+
+  private static final class Failure {
+
+    private final Throwable error;
+
+    private Failure(Throwable error) {
+      this.error = error;
+    }
+  }
+
+}
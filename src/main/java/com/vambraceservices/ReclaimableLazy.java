@@ -0,0 +1,111 @@
+package com.vambraceservices;
+
+import java.lang.ref.Reference;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The ReclaimableLazy class
+ *
+ * A Lazy that holds its value through a soft or weak reference, so the
+ * garbage collector can reclaim it, and loads it again on the next get.
+ * Loads are serialized, so the loader never runs on more than one thread at
+ * a time.
+ *
+ * @param <V> type of returned value
+ */
+
+public final class ReclaimableLazy<V> extends Lazy<V> {
+
+  private static final Object NULL = new Object();
+
+  private final Supplier<V>                         loader;
+  private final Function<Object, Reference<Object>> reference;
+  private final LongAdder                           reclaims = new LongAdder();
+  private final LongAdder                           reloads  = new LongAdder();
+
+  private volatile Reference<Object> value;
+  private boolean                    loadedOnce;
+
+  /**
+   * @param loader - supplier that can be called to load the value when needed
+   * @param reference - wraps a loaded value in a soft or weak reference
+   */
+
+  ReclaimableLazy(Supplier<V> loader, Function<Object, Reference<Object>> reference) {
+    this.loader = Objects.requireNonNull(loader);
+    this.reference = reference;
+  }
+
+  /**
+   * @return - inner value, loaded again if it was reclaimed
+   */
+
+  @Override
+  public V get() {
+    Reference<Object> current = this.value;
+    if (Objects.nonNull(current)) {
+      Object held = current.get();
+      if (Objects.nonNull(held)) {
+        return unwrap(held);
+      }
+    }
+    return this.load();
+  }
+
+  /**
+   * @return if the value is loaded and has not been reclaimed
+   */
+
+  @Override
+  public boolean isLoaded() {
+    Reference<Object> current = this.value;
+    return Objects.nonNull(current) && Objects.nonNull(current.get());
+  }
+
+  /**
+   * Reclaims are counted when a get finds the value gone, not when the
+   * collector clears it
+   *
+   * @return how many times the value was found reclaimed
+   */
+
+  public long reclaims() {
+    return this.reclaims.sum();
+  }
+
+  /**
+   * @return how many times the value was loaded again after the first load
+   */
+
+  public long reloads() {
+    return this.reloads.sum();
+  }
+
+  private synchronized V load() {
+    Reference<Object> current = this.value;
+    if (Objects.nonNull(current)) {
+      Object held = current.get();
+      if (Objects.nonNull(held)) {
+        return unwrap(held);
+      }
+      this.reclaims.increment();
+      this.value = null;
+    }
+    V loaded = this.loader.get();
+    if (this.loadedOnce) {
+      this.reloads.increment();
+    }
+    this.loadedOnce = true;
+    this.value = this.reference.apply(Objects.isNull(loaded) ? NULL : loaded);
+    return loaded;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <V> V unwrap(Object held) {
+    return held == NULL ? null : (V) held;
+  }
+
+}
@@ -1,5 +1,7 @@
 package com.vambraceservices;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -11,6 +13,8 @@ public final class Response<T> {
   private static final String EMPTY_STRING = "";
   private T      inner;
   private Throwable error;
+  private Failure failure;
+  private Throwable built;
   private Response() {
   }
 
@@ -26,7 +30,7 @@ public final class Response<T> {
 
   public <N> Response<N> to(Predicate<T> predicate, Function<T, N> fn) {
     if (this.hasError()) {
-      return Response.failed(this.error);
+      return this.propagate();
     }
     if (this.hasValue() && predicate.test(this.inner)) {
       return Response.from(fn.apply(this.inner));
@@ -36,7 +40,7 @@ public final class Response<T> {
 
   public <N> Response<N> to(Function<T, N> fn) {
     if (this.hasError()) {
-      return Response.failed(this.error);
+      return this.propagate();
     }
     if (this.hasValue()) {
       return Response.from(fn.apply(this.inner));
@@ -53,7 +57,7 @@ public final class Response<T> {
 
   public <N> Response<N> as(Function<T, Response<N>> fn) {
     if (this.hasError()) {
-      return Response.failed(this.error);
+      return this.propagate();
     }
     if (this.hasValue()) {
       return fn.apply(this.inner);
@@ -61,16 +65,85 @@ public final class Response<T> {
     return Response.empty();
   }
 
+  /**
+   * Makes the call, and again after each hedge delay it is still running, up
+   * to maxAttempts. The first response without an error is taken and the
+   * other attempts are cancelled
+   *
+   * @param supplier - makes the call; may run more than once, concurrently
+   * @param hedgeDelay - how long to wait for an attempt before starting another
+   * @param maxAttempts - the most attempts, including the first
+   * @param <T> - type of the value
+   * @return async response holding the first response without an error
+   * @see #hedge(Duration, int)
+   */
+
+  public static <T> ResponseAsync<T> hedged(Supplier<Response<T>> supplier, Duration hedgeDelay, int maxAttempts) {
+    return Response.hedge(hedgeDelay, maxAttempts).call(supplier);
+  }
+
+  /**
+   * @param hedgeDelay - how long to wait for an attempt before starting another
+   * @param maxAttempts - the most attempts per call, including the first
+   * @return reusable hedge, counting attempts, hedges won and cancellations across calls
+   */
+
+  public static ResponseHedge hedge(Duration hedgeDelay, int maxAttempts) {
+    return new ResponseHedge(hedgeDelay, maxAttempts, DefaultExecutor.get());
+  }
+
+  /**
+   * @param maxAttempts - the most attempts per call, including the first
+   * @param initialBackoff - longest wait after the first failure, doubled after each further failure
+   * @param maxBackoff - the longest wait
+   * @param retryOn - whether a failure is worth another attempt
+   * @return reusable retry, counting attempts, retries and cancellations across calls
+   */
+
+  public static ResponseRetry retry(int maxAttempts, Duration initialBackoff, Duration maxBackoff,
+                                    Predicate<Failure> retryOn) {
+    return new ResponseRetry(maxAttempts, initialBackoff, maxBackoff, retryOn, DefaultExecutor.get());
+  }
+
   public static <T> Response<T> failed(Throwable exception) {
     Response<T> response = new Response<>();
     response.error = exception;
     return response;
   }
 
+  /**
+   * A failure without a stack trace, for expected outcomes such as not found.
+   * A Throwable is only built if one is asked for, by error, consumeError or
+   * elseThrow(Function)
+   *
+   * @param failure - reusable code and message
+   * @param <T> - type of the missing value
+   * @return failed response
+   */
+
+  public static <T> Response<T> failed(Failure failure) {
+    Response<T> response = new Response<>();
+    response.failure = Objects.requireNonNull(failure);
+    return response;
+  }
+
+  /**
+   * @param code - what went wrong, such as an enum constant
+   * @param message - detail for people
+   * @param <T> - type of the missing value
+   * @return failed response
+   * @see #failed(Failure)
+   */
+
+  public static <T> Response<T> failed(String code, String message) {
+    return Response.failed(Failure.of(code, message));
+  }
+
   public static <N> Response<N> failed(N value, Response original) {
     Response<N> response = new Response<>();
     response.inner = value;
     response.error = original.error;
+    response.failure = original.failure;
     return response;
   }
 
@@ -78,6 +151,57 @@ public final class Response<T> {
     return new Response<>(null);
   }
 
+  /**
+   * @param supplier - makes the call, on the default executor, which uses virtual threads when available
+   * @param <T> - type of the value
+   * @return async response completing with the call's response
+   */
+
+  public static <T> ResponseAsync<T> async(Supplier<Response<T>> supplier) {
+    return ResponseAsync.from(supplier);
+  }
+
+  /**
+   * @return async response holding this response
+   */
+
+  public ResponseAsync<T> async() {
+    return ResponseAsync.of(this);
+  }
+
+  /**
+   * @param calls - calls to wait for
+   * @param <T> - type of the values
+   * @return async response holding every value, or the first error
+   * @see ResponseAsync#allOf(List)
+   */
+
+  public static <T> ResponseAsync<List<T>> allOf(List<ResponseAsync<T>> calls) {
+    return ResponseAsync.allOf(calls);
+  }
+
+  /**
+   * @param calls - calls to wait for
+   * @param <T> - type of the value
+   * @return async response holding the first value
+   * @see ResponseAsync#anyOf(List)
+   */
+
+  public static <T> ResponseAsync<T> anyOf(List<ResponseAsync<T>> calls) {
+    return ResponseAsync.anyOf(calls);
+  }
+
+  /**
+   * @param calls - calls to race
+   * @param <T> - type of the value
+   * @return async response holding the first to finish
+   * @see ResponseAsync#race(List)
+   */
+
+  public static <T> ResponseAsync<T> race(List<ResponseAsync<T>> calls) {
+    return ResponseAsync.race(calls);
+  }
+
   public T value() {
     return this.inner;
   }
@@ -95,11 +219,32 @@ public final class Response<T> {
   }
 
   public Boolean hasNoError() {
-    return Objects.isNull(this.error);
+    return Objects.isNull(this.error) && Objects.isNull(this.failure);
   }
 
+  /**
+   * @return the error, built on first call from a lightweight failure
+   */
+
   public Throwable error() {
-    return this.error;
+    if (Objects.nonNull(this.error) || Objects.isNull(this.failure)) {
+      return this.error;
+    }
+    if (Objects.isNull(this.built)) {
+      this.built = this.failure.toThrowable();
+    }
+    return this.built;
+  }
+
+  /**
+   * @return the lightweight failure, or one describing the error, or null if neither
+   */
+
+  public Failure failure() {
+    if (Objects.isNull(this.failure) && Objects.nonNull(this.error)) {
+      return Failure.of(this.error);
+    }
+    return this.failure;
   }
 
   public Boolean isEmpty() {
@@ -115,7 +260,21 @@ public final class Response<T> {
 
   public Response<T> consumeError(Consumer<Throwable> errorConsumer) {
     if (errorConsumer != null && this.hasError()) {
-      errorConsumer.accept(this.error);
+      errorConsumer.accept(this.error());
+    }
+    return this;
+  }
+
+  /**
+   * Unlike consumeError, never builds a Throwable for a lightweight failure
+   *
+   * @param failureConsumer - accepts the failure, if any
+   * @return itself
+   */
+
+  public Response<T> consumeFailure(Consumer<Failure> failureConsumer) {
+    if (failureConsumer != null && this.hasError()) {
+      failureConsumer.accept(this.failure());
     }
     return this;
   }
@@ -138,7 +297,7 @@ public final class Response<T> {
     if (this.hasValue()) {
       return this.inner;
     } else {
-      throw exceptionSupplier.apply(this.error);
+      throw exceptionSupplier.apply(this.error());
     }
   }
 
@@ -156,8 +315,111 @@ public final class Response<T> {
       return this.value().toString();
 
     } else if (this.hasError()) {
-      return this.error.toString();
+      return Objects.nonNull(this.error) ? this.error.toString() : this.failure.toString();
     }
     return EMPTY_STRING;
   }
+
+  private <N> Response<N> propagate() {
+    Response<N> response = new Response<>();
+    response.error = this.error;
+    response.failure = this.failure;
+    return response;
+  }
+
+  /**
+   * The Failure class
+   *
+   * An error code and message, cheap enough to return on hot paths. Instances
+   * hold no stack trace, so constants can be shared by every failed response
+   */
+
+  public static final class Failure {
+
+    private final String    code;
+    private final String    message;
+    private final Throwable cause;
+
+    private Failure(String code, String message, Throwable cause) {
+      this.code = code;
+      this.message = message;
+      this.cause = cause;
+    }
+
+    /**
+     * @param code - what went wrong
+     * @param message - detail for people
+     * @return failure
+     */
+
+    public static Failure of(String code, String message) {
+      return new Failure(Objects.requireNonNull(code), message, null);
+    }
+
+    /**
+     * @param code - what went wrong, named by the constant
+     * @param message - detail for people
+     * @return failure
+     */
+
+    public static Failure of(Enum<?> code, String message) {
+      return new Failure(code.name(), message, null);
+    }
+
+    private static Failure of(Throwable error) {
+      return new Failure(error.getClass().getSimpleName(), error.getMessage(), error);
+    }
+
+    public String code() {
+      return this.code;
+    }
+
+    public String message() {
+      return this.message;
+    }
+
+    /**
+     * @param code - code to compare
+     * @return if this failure has the code
+     */
+
+    public boolean is(Enum<?> code) {
+      return this.code.equals(code.name());
+    }
+
+    /**
+     * @return the error this failure describes, or a new exception with a stack trace from here
+     */
+
+    public Throwable toThrowable() {
+      return Objects.nonNull(this.cause) ? this.cause : new FailureException(this);
+    }
+
+    @Override
+    public String toString() {
+      return Objects.isNull(this.message) ? this.code : this.code + ": " + this.message;
+    }
+  }
+
+  /**
+   * The FailureException class
+   *
+   * Thrown form of a Failure
+   */
+
+  public static final class FailureException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Failure failure;
+
+    private FailureException(Failure failure) {
+      super(failure.toString());
+      this.failure = failure;
+    }
+
+    public Failure failure() {
+      return this.failure;
+    }
+  }
 }
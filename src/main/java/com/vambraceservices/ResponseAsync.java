@@ -0,0 +1,469 @@
+package com.vambraceservices;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The ResponseAsync class
+ *
+ * Asynchronous counterpart of Response backed by a CompletableFuture. Values,
+ * empties and errors all travel as a Response, so the future itself never
+ * fails; an exception thrown by a step becomes a failed Response.
+ *
+ * Cancelling a ResponseAsync also cancels the stages it was built from, and
+ * interrupts their suppliers if still running, unless another stage still
+ * depends on them. Stages branched from the same source do not cancel each
+ * other.
+ *
+ * @param <T> stored type
+ */
+
+public final class ResponseAsync<T> {
+
+  /**
+   * Failure of a call that did not finish before its deadline
+   */
+
+  public static final Response.Failure TIMEOUT = Response.Failure.of("timeout", "deadline passed");
+
+  /**
+   * Failure of a call that was cancelled, such as the losing branch of a race
+   */
+
+  public static final Response.Failure CANCELLED = Response.Failure.of("cancelled", "call cancelled");
+
+  private final CompletableFuture<Response<T>> future;
+  private final Executor                       executor;
+  private final Scope                          scope;
+
+  private ResponseAsync(CompletableFuture<Response<T>> future, Executor executor, Scope scope) {
+    this.future = future;
+    this.executor = executor;
+    this.scope = scope;
+    scope.onCancel(() -> future.cancel(true));
+  }
+
+  /**
+   * @param <T> - the stored type
+   * @param response - response to continue asynchronously
+   * @return new async response holding the response
+   */
+
+  public static <T> ResponseAsync<T> of(Response<T> response) {
+    return of(response, DefaultExecutor.get());
+  }
+
+  /**
+   * @param <T> - the stored type
+   * @param response - response to continue asynchronously
+   * @param executor - runs async steps
+   * @return new async response holding the response
+   */
+
+  public static <T> ResponseAsync<T> of(Response<T> response, Executor executor) {
+    Response<T> seed = Objects.isNull(response) ? Response.empty() : response;
+    return new ResponseAsync<>(CompletableFuture.completedFuture(seed), executor, new Scope());
+  }
+
+  /**
+   * @param <T> - the stored type
+   * @param supplier - makes the call, on the default executor
+   * @return new async response
+   */
+
+  public static <T> ResponseAsync<T> from(Supplier<Response<T>> supplier) {
+    return from(supplier, DefaultExecutor.get());
+  }
+
+  /**
+   * @param <T> - the stored type
+   * @param supplier - makes the call, on the executor
+   * @param executor - runs the supplier and later async steps
+   * @return new async response
+   */
+
+  public static <T> ResponseAsync<T> from(Supplier<Response<T>> supplier, Executor executor) {
+    Call<T> call = new Call<>(supplier);
+    try {
+      executor.execute(call);
+    } catch (RuntimeException e) {
+      call.complete(Response.failed(e));
+    }
+    return new ResponseAsync<>(call, executor, new Scope());
+  }
+
+  /**
+   * @param <T> - the stored type
+   * @param future - completes with the response
+   * @param executor - runs later async steps
+   * @param canceller - cancels the work behind the future
+   * @return new async response over the future
+   */
+
+  static <T> ResponseAsync<T> wrap(CompletableFuture<Response<T>> future, Executor executor, Runnable canceller) {
+    Scope scope = new Scope();
+    scope.onCancel(canceller);
+    return new ResponseAsync<>(future, executor, scope);
+  }
+
+  /**
+   * Completes with every value, in order, with null for empty responses. The
+   * first error completes it straight away and cancels the remaining calls
+   *
+   * @param <T> - the stored type
+   * @param calls - calls to wait for
+   * @return new async response holding all values, or the first error
+   */
+
+  public static <T> ResponseAsync<List<T>> allOf(List<ResponseAsync<T>> calls) {
+    CompletableFuture<Response<List<T>>> result = new CompletableFuture<>();
+    Object[] values = new Object[calls.size()];
+    AtomicInteger remaining = new AtomicInteger(calls.size());
+    if (calls.isEmpty()) {
+      result.complete(Response.from(Collections.emptyList()));
+    }
+    for (int i = 0; i < calls.size(); i++) {
+      int index = i;
+      calls.get(i).future.whenComplete((response, error) -> {
+        Response<T> settled = settle(response, error);
+        if (settled.hasError()) {
+          result.complete(Response.failed(null, settled));
+          return;
+        }
+        values[index] = settled.value();
+        if (remaining.decrementAndGet() == 0) {
+          result.complete(Response.from(list(values)));
+        }
+      });
+    }
+    return join(calls, result);
+  }
+
+  /**
+   * Completes with the first value, and cancels the remaining calls. If no
+   * call has a value, completes with the first error, or empty if none failed
+   *
+   * @param <T> - the stored type
+   * @param calls - calls to wait for
+   * @return new async response holding the first value
+   */
+
+  public static <T> ResponseAsync<T> anyOf(List<ResponseAsync<T>> calls) {
+    CompletableFuture<Response<T>> result = new CompletableFuture<>();
+    AtomicReference<Response<T>> firstError = new AtomicReference<>();
+    AtomicInteger remaining = new AtomicInteger(calls.size());
+    if (calls.isEmpty()) {
+      result.complete(Response.empty());
+    }
+    for (ResponseAsync<T> call : calls) {
+      call.future.whenComplete((response, error) -> {
+        Response<T> settled = settle(response, error);
+        if (settled.hasValue()) {
+          result.complete(settled);
+          return;
+        }
+        if (settled.hasError()) {
+          firstError.compareAndSet(null, settled);
+        }
+        if (remaining.decrementAndGet() == 0) {
+          Response<T> failed = firstError.get();
+          result.complete(Objects.isNull(failed) ? Response.empty() : failed);
+        }
+      });
+    }
+    return join(calls, result);
+  }
+
+  /**
+   * Completes with whichever call finishes first, whether with a value, empty
+   * or an error, and cancels the others
+   *
+   * @param <T> - the stored type
+   * @param calls - calls to race
+   * @return new async response holding the first to finish
+   */
+
+  public static <T> ResponseAsync<T> race(List<ResponseAsync<T>> calls) {
+    CompletableFuture<Response<T>> result = new CompletableFuture<>();
+    if (calls.isEmpty()) {
+      result.complete(Response.empty());
+    }
+    for (ResponseAsync<T> call : calls) {
+      call.future.whenComplete((response, error) -> result.complete(settle(response, error)));
+    }
+    return join(calls, result);
+  }
+
+  /**
+   * @param next - executor for subsequent async steps
+   * @return new async response using the executor
+   */
+
+  public ResponseAsync<T> on(Executor next) {
+    return new ResponseAsync<>(this.future.thenApply(Function.identity()), next, new Scope(this.scope));
+  }
+
+  /**
+   * @param <N> - the returned inner type
+   * @param fn - to execute on the value, on the completing thread
+   * @return new async response with the new value, empty or the error
+   */
+
+  public <N> ResponseAsync<N> to(Function<T, N> fn) {
+    return this.then(this.future.thenApply(response -> attempt(() -> response.to(fn))));
+  }
+
+  /**
+   * @param <N> - the returned inner type
+   * @param fn - to execute on the value, on the executor
+   * @return new async response with the new value, empty or the error
+   */
+
+  public <N> ResponseAsync<N> toAsync(Function<T, N> fn) {
+    return this.then(this.future.thenApplyAsync(response -> attempt(() -> response.to(fn)), this.executor));
+  }
+
+  /**
+   * @param <N> - the returned inner type
+   * @param fn - returns the next async response
+   * @return new async response completing with the returned one
+   */
+
+  public <N> ResponseAsync<N> as(Function<T, ResponseAsync<N>> fn) {
+    Scope child = new Scope(this.scope);
+    return new ResponseAsync<>(this.future.thenCompose(response -> {
+      if (response.hasError()) {
+        return CompletableFuture.completedFuture(Response.failed(null, response));
+      }
+      if (response.hasNoValue()) {
+        return CompletableFuture.completedFuture(Response.empty());
+      }
+      ResponseAsync<N> next;
+      try {
+        next = fn.apply(response.value());
+      } catch (RuntimeException e) {
+        return CompletableFuture.completedFuture(Response.failed(e));
+      }
+      if (Objects.isNull(next)) {
+        return CompletableFuture.completedFuture(Response.empty());
+      }
+      child.onCancel(next::cancel);
+      return next.future.handle(ResponseAsync::settle);
+    }), this.executor, child);
+  }
+
+  /**
+   * Completes with a TIMEOUT failure if not done before the deadline, and
+   * cancels the calls it was built from, as cancel does. The deadline timer
+   * is cancelled as soon as the response completes
+   *
+   * @param deadline - how long to wait from now
+   * @return new async response bounded by the deadline
+   */
+
+  public ResponseAsync<T> within(Duration deadline) {
+    CompletableFuture<Response<T>> result = new CompletableFuture<>();
+    Scope child = new Scope(this.scope);
+    this.future.whenComplete((response, error) -> result.complete(settle(response, error)));
+    Future<?> timer = Delays.schedule(Math.max(0, deadline.toNanos()), this.executor, () -> {
+      if (result.complete(Response.failed(TIMEOUT))) {
+        child.cancel();
+      }
+    }, rejected -> {
+      if (result.complete(Response.failed(rejected))) {
+        child.cancel();
+      }
+    });
+    result.whenComplete((response, error) -> timer.cancel(false));
+    return new ResponseAsync<>(result, this.executor, child);
+  }
+
+  /**
+   * Cancels this, and each stage it was built from that no other stage
+   * depends on; unfinished ones complete with a CANCELLED failure
+   */
+
+  public void cancel() {
+    this.scope.cancel();
+  }
+
+  /**
+   * @return future completing with the response; never completes exceptionally
+   */
+
+  public CompletableFuture<Response<T>> toFuture() {
+    return this.future.handle(ResponseAsync::settle);
+  }
+
+  /**
+   * Blocks until complete
+   * @return the response
+   */
+
+  public Response<T> join() {
+    return this.toFuture().join();
+  }
+
+  private <N> ResponseAsync<N> then(CompletableFuture<Response<N>> next) {
+    return new ResponseAsync<>(next, this.executor, new Scope(this.scope));
+  }
+
+  /**
+   * Once the result is known the calls are released, which cancels those
+   * still running unless other stages depend on them
+   */
+
+  private static <T, R> ResponseAsync<R> join(List<ResponseAsync<T>> calls, CompletableFuture<Response<R>> result) {
+    Scope[] parents = calls.stream().map(call -> call.scope).toArray(Scope[]::new);
+    Scope scope = new Scope(parents);
+    Executor executor = calls.isEmpty() ? DefaultExecutor.get() : calls.get(0).executor;
+    ResponseAsync<R> joined = new ResponseAsync<>(result, executor, scope);
+    result.whenComplete((response, error) -> scope.release());
+    return joined;
+  }
+
+  private static <T> Response<T> attempt(Supplier<Response<T>> step) {
+    try {
+      return step.get();
+    } catch (RuntimeException e) {
+      return Response.failed(e);
+    }
+  }
+
+  private static <T> Response<T> settle(Response<T> response, Throwable error) {
+    if (Objects.isNull(error)) {
+      return Objects.isNull(response) ? Response.empty() : response;
+    }
+    Throwable cause = error instanceof CompletionException && Objects.nonNull(error.getCause())
+        ? error.getCause() : error;
+    if (cause instanceof CancellationException) {
+      return Response.failed(CANCELLED);
+    }
+    return Response.failed(cause);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> List<T> list(Object[] values) {
+    return Collections.unmodifiableList(new ArrayList<>((List<T>) Arrays.asList(values)));
+  }
+
+  /**
+   * Cancellation of one stage. A stage holds the scopes it was built from,
+   * and when cancelled or finished with them, releases each. A scope is
+   * cancelled once every stage depending on it has released it
+   */
+
+  private static final class Scope {
+
+    private final Scope[]         parents;
+    private final Queue<Runnable> cancellers = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger   dependents = new AtomicInteger();
+    private final AtomicBoolean   released   = new AtomicBoolean();
+    private volatile boolean      cancelled;
+
+    private Scope(Scope... parents) {
+      this.parents = parents;
+      for (Scope parent : parents) {
+        parent.dependents.incrementAndGet();
+      }
+    }
+
+    private void onCancel(Runnable canceller) {
+      this.cancellers.add(canceller);
+      if (this.cancelled) {
+        this.cancel();
+      }
+    }
+
+    private void cancel() {
+      this.cancelled = true;
+      Runnable canceller;
+      while (Objects.nonNull(canceller = this.cancellers.poll())) {
+        canceller.run();
+      }
+      this.release();
+    }
+
+    /**
+     * Lets go of the parents, cancelling any that nothing else depends on
+     */
+
+    private void release() {
+      if (!this.released.compareAndSet(false, true)) {
+        return;
+      }
+      for (Scope parent : this.parents) {
+        if (parent.dependents.decrementAndGet() == 0) {
+          parent.cancel();
+        }
+      }
+    }
+  }
+
+  /**
+   * Runs a supplier, and interrupts it if cancelled while running
+   */
+
+  private static final class Call<T> extends CompletableFuture<Response<T>> implements Runnable {
+
+    private final Supplier<Response<T>> supplier;
+    private Thread                      runner;
+
+    private Call(Supplier<Response<T>> supplier) {
+      this.supplier = supplier;
+    }
+
+    @Override
+    public void run() {
+      synchronized (this) {
+        if (this.isDone()) {
+          return;
+        }
+        this.runner = Thread.currentThread();
+      }
+      try {
+        this.complete(attempt(this.supplier));
+      } catch (Throwable e) {
+        // an error left to the executor would leave the call incomplete for good
+        this.complete(Response.failed(e));
+      } finally {
+        synchronized (this) {
+          this.runner = null;
+        }
+        if (this.isCancelled()) {
+          Thread.interrupted();
+        }
+      }
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      boolean cancelled = super.cancel(mayInterruptIfRunning);
+      if (cancelled && mayInterruptIfRunning) {
+        synchronized (this) {
+          if (Objects.nonNull(this.runner)) {
+            this.runner.interrupt();
+          }
+        }
+      }
+      return cancelled;
+    }
+  }
+
+}
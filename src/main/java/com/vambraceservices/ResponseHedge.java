@@ -0,0 +1,214 @@
+package com.vambraceservices;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * The ResponseHedge class
+ *
+ * Makes a call, and if it has not finished within the hedge delay, makes it
+ * again, up to a number of attempts. The first response without an error is
+ * taken and the other attempts are cancelled. An attempt that fails starts
+ * the next one straight away. If every attempt fails, the first error is
+ * returned. Once the call completes or is cancelled, the pending hedge timer
+ * is cancelled too.
+ *
+ * A hedge can be shared by many calls, and counts across all of them.
+ */
+
+public final class ResponseHedge {
+
+  private final long     delay;
+  private final int      maxAttempts;
+  private final Executor executor;
+
+  private final LongAdder attempts      = new LongAdder();
+  private final LongAdder hedges        = new LongAdder();
+  private final LongAdder hedgesWon     = new LongAdder();
+  private final LongAdder cancellations = new LongAdder();
+
+  /**
+   * @param delay - how long to wait for an attempt before starting another
+   * @param maxAttempts - the most attempts per call, including the first
+   * @param executor - runs the attempts
+   */
+
+  ResponseHedge(Duration delay, int maxAttempts, Executor executor) {
+    if (delay.isNegative() || maxAttempts < 1) {
+      throw new IllegalArgumentException("delay " + delay + " and attempts " + maxAttempts);
+    }
+    this.delay = delay.toNanos();
+    this.maxAttempts = maxAttempts;
+    this.executor = Objects.requireNonNull(executor);
+  }
+
+  /**
+   * @param <T> - the stored type
+   * @param supplier - makes the call; may run more than once, concurrently
+   * @return async response holding the first response without an error
+   */
+
+  public <T> ResponseAsync<T> call(Supplier<Response<T>> supplier) {
+    return new Call<>(supplier).start();
+  }
+
+  /**
+   * @return attempts started, including the first of each call
+   */
+
+  public long attempts() {
+    return this.attempts.sum();
+  }
+
+  /**
+   * @return attempts started because the earlier ones were still running after the delay
+   */
+
+  public long hedges() {
+    return this.hedges.sum();
+  }
+
+  /**
+   * @return calls whose response came from an attempt counted in hedges
+   */
+
+  public long hedgesWon() {
+    return this.hedgesWon.sum();
+  }
+
+  /**
+   * @return attempts cancelled while still running
+   */
+
+  public long cancellations() {
+    return this.cancellations.sum();
+  }
+
+  @Override
+  public String toString() {
+    return "attempts=" + this.attempts() + " hedges=" + this.hedges() + " hedgesWon=" + this.hedgesWon()
+           + " cancellations=" + this.cancellations();
+  }
+
+  private final class Call<T> {
+
+    private final Supplier<Response<T>>          supplier;
+    private final CompletableFuture<Response<T>> result     = new CompletableFuture<>();
+    private final List<Attempt>                  running    = new CopyOnWriteArrayList<>();
+    private final AtomicInteger                  started    = new AtomicInteger();
+    private final AtomicInteger                  failed     = new AtomicInteger();
+    private final AtomicReference<Response<T>>   firstError = new AtomicReference<>();
+    private final AtomicReference<Future<?>>     timer      = new AtomicReference<>();
+
+    private Call(Supplier<Response<T>> supplier) {
+      this.supplier = supplier;
+    }
+
+    private ResponseAsync<T> start() {
+      this.launch(false);
+      return ResponseAsync.wrap(this.result, ResponseHedge.this.executor, this::cancel);
+    }
+
+    /**
+     * @param hedge - whether the delay passed, rather than the earlier attempts failing
+     */
+
+    private void launch(boolean hedge) {
+      int index;
+      do {
+        index = this.started.get();
+        if (this.result.isDone() || index >= ResponseHedge.this.maxAttempts) {
+          return;
+        }
+      } while (!this.started.compareAndSet(index, index + 1));
+      ResponseHedge.this.attempts.increment();
+      if (hedge) {
+        ResponseHedge.this.hedges.increment();
+      }
+      Attempt running = new Attempt(ResponseAsync.from(this.supplier, ResponseHedge.this.executor), hedge);
+      this.running.add(running);
+      running.outcome.thenAccept(response -> this.finished(running, response));
+      if (this.result.isDone()) {
+        this.cancelRunning();
+      } else if (index + 1 < ResponseHedge.this.maxAttempts) {
+        Future<?> previous = this.timer.getAndSet(
+            Delays.schedule(ResponseHedge.this.delay, ResponseHedge.this.executor, () -> this.launch(true),
+                            rejected -> {
+                              // the running attempts still answer
+                            }));
+        if (Objects.nonNull(previous)) {
+          previous.cancel(false);
+        }
+        if (this.result.isDone()) {
+          this.stopTimer();
+        }
+      }
+    }
+
+    private void finished(Attempt attempt, Response<T> response) {
+      if (response.hasNoError()) {
+        if (this.result.complete(response)) {
+          if (attempt.hedge) {
+            ResponseHedge.this.hedgesWon.increment();
+          }
+          this.stopTimer();
+          this.cancelRunning();
+        }
+        return;
+      }
+      this.firstError.compareAndSet(null, response);
+      int failures = this.failed.incrementAndGet();
+      if (failures == ResponseHedge.this.maxAttempts) {
+        this.result.complete(this.firstError.get());
+        this.stopTimer();
+      } else if (failures == this.started.get()) {
+        this.launch(false);
+      }
+    }
+
+    private void cancel() {
+      this.result.cancel(true);
+      this.stopTimer();
+      this.cancelRunning();
+    }
+
+    private void stopTimer() {
+      Future<?> pending = this.timer.getAndSet(null);
+      if (Objects.nonNull(pending)) {
+        pending.cancel(false);
+      }
+    }
+
+    private void cancelRunning() {
+      for (Attempt attempt : this.running) {
+        if (!attempt.outcome.isDone()) {
+          ResponseHedge.this.cancellations.increment();
+          attempt.call.cancel();
+        }
+      }
+    }
+
+    private final class Attempt {
+
+      private final ResponseAsync<T>               call;
+      private final CompletableFuture<Response<T>> outcome;
+      private final boolean                        hedge;
+
+      private Attempt(ResponseAsync<T> call, boolean hedge) {
+        this.call = call;
+        this.outcome = call.toFuture();
+        this.hedge = hedge;
+      }
+    }
+  }
+
+}
@@ -0,0 +1,185 @@
+package com.vambraceservices;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * The ResponseRetry class
+ *
+ * Makes a call again while it fails with a retryable error, up to a number
+ * of attempts. Between attempts it waits a random time up to a backoff that
+ * doubles after each failure, so callers retrying together spread out. The
+ * wait is scheduled, not slept, so no thread is held while backing off, and
+ * cancelling the call cancels the pending wait.
+ *
+ * A retry can be shared by many calls, and counts across all of them.
+ */
+
+public final class ResponseRetry {
+
+  private final int                         maxAttempts;
+  private final long                        initialNanos;
+  private final long                        maxNanos;
+  private final Predicate<Response.Failure> retryOn;
+  private final Executor                    executor;
+
+  private final LongAdder attempts      = new LongAdder();
+  private final LongAdder retries       = new LongAdder();
+  private final LongAdder cancellations = new LongAdder();
+
+  /**
+   * @param maxAttempts - the most attempts per call, including the first
+   * @param initial - backoff after the first failure, doubled after each further failure
+   * @param max - the longest backoff
+   * @param retryOn - whether a failure is worth another attempt
+   * @param executor - runs the attempts
+   */
+
+  ResponseRetry(int maxAttempts, Duration initial, Duration max, Predicate<Response.Failure> retryOn,
+                Executor executor) {
+    if (maxAttempts < 1 || initial.isNegative() || max.isNegative()) {
+      throw new IllegalArgumentException("attempts " + maxAttempts + " and backoff " + initial + " to " + max);
+    }
+    this.maxAttempts = maxAttempts;
+    this.initialNanos = initial.toNanos();
+    this.maxNanos = Math.max(initial.toNanos(), max.toNanos());
+    this.retryOn = Objects.requireNonNull(retryOn);
+    this.executor = Objects.requireNonNull(executor);
+  }
+
+  /**
+   * @param <T> - the stored type
+   * @param supplier - makes the call; runs once per attempt
+   * @return async response holding the last attempt's response
+   */
+
+  public <T> ResponseAsync<T> call(Supplier<Response<T>> supplier) {
+    return new Call<>(supplier).start();
+  }
+
+  /**
+   * @return attempts started, including the first of each call
+   */
+
+  public long attempts() {
+    return this.attempts.sum();
+  }
+
+  /**
+   * @return attempts started after a retryable failure
+   */
+
+  public long retries() {
+    return this.retries.sum();
+  }
+
+  /**
+   * @return attempts cancelled while still running
+   */
+
+  public long cancellations() {
+    return this.cancellations.sum();
+  }
+
+  @Override
+  public String toString() {
+    return "attempts=" + this.attempts() + " retries=" + this.retries() + " cancellations=" + this.cancellations();
+  }
+
+  /**
+   * @param failures - failed attempts so far
+   * @return random wait up to the doubled backoff
+   */
+
+  private long backoff(int failures) {
+    if (this.initialNanos == 0) {
+      return 0;
+    }
+    int doublings = Math.min(failures - 1, 62);
+    long ceiling = this.initialNanos << doublings;
+    if (ceiling < 0 || ceiling >> doublings != this.initialNanos) {
+      ceiling = this.maxNanos;
+    }
+    return ThreadLocalRandom.current().nextLong(Math.min(ceiling, this.maxNanos) + 1);
+  }
+
+  private final class Call<T> {
+
+    private final Supplier<Response<T>>             supplier;
+    private final CompletableFuture<Response<T>>    result  = new CompletableFuture<>();
+    private final AtomicReference<ResponseAsync<T>> current = new AtomicReference<>();
+    private final AtomicReference<Future<?>>        waiting = new AtomicReference<>();
+
+    private Call(Supplier<Response<T>> supplier) {
+      this.supplier = supplier;
+    }
+
+    private ResponseAsync<T> start() {
+      this.attempt(1);
+      return ResponseAsync.wrap(this.result, ResponseRetry.this.executor, this::cancel);
+    }
+
+    private void attempt(int attempt) {
+      if (this.result.isDone()) {
+        return;
+      }
+      ResponseRetry.this.attempts.increment();
+      if (attempt > 1) {
+        ResponseRetry.this.retries.increment();
+      }
+      ResponseAsync<T> call = ResponseAsync.from(this.supplier, ResponseRetry.this.executor);
+      this.current.set(call);
+      if (this.result.isDone() && this.current.compareAndSet(call, null)) {
+        ResponseRetry.this.cancellations.increment();
+        call.cancel();
+        return;
+      }
+      call.toFuture().thenAccept(response -> {
+        if (!this.current.compareAndSet(call, null)) {
+          return;
+        }
+        try {
+          if (response.hasError() && attempt < ResponseRetry.this.maxAttempts
+              && ResponseRetry.this.retryOn.test(response.failure())) {
+            this.waiting.set(Delays.schedule(ResponseRetry.this.backoff(attempt), ResponseRetry.this.executor,
+                                             () -> this.attempt(attempt + 1),
+                                             rejected -> this.result.complete(Response.failed(rejected))));
+            if (this.result.isDone()) {
+              this.stopWaiting();
+            }
+          } else {
+            this.result.complete(response);
+          }
+        } catch (RuntimeException e) {
+          this.result.complete(Response.failed(e));
+        }
+      });
+    }
+
+    private void cancel() {
+      this.result.cancel(true);
+      this.stopWaiting();
+      ResponseAsync<T> running = this.current.getAndSet(null);
+      if (Objects.nonNull(running)) {
+        ResponseRetry.this.cancellations.increment();
+        running.cancel();
+      }
+    }
+
+    private void stopWaiting() {
+      Future<?> pending = this.waiting.getAndSet(null);
+      if (Objects.nonNull(pending)) {
+        pending.cancel(false);
+      }
+    }
+  }
+
+}
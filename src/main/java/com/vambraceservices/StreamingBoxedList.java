@@ -0,0 +1,91 @@
+package com.vambraceservices;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A BoxedList that pulls items from a source one at a time as they are
+ * consumed, so only the items in flight are held in memory. Operators are
+ * applied to each item as it arrives.
+ *
+ * The source can only be consumed once; the first terminal operation consumes
+ * it, and any later one throws IllegalStateException.
+ *
+ * @param <L> produced type
+ */
+
+final class StreamingBoxedList<L> extends TraversedBoxedList<L> {
+
+  private final Iterator<L>   source;
+  private final AtomicBoolean consumed = new AtomicBoolean();
+
+  /**
+   * @param source - pulled once, and closed afterwards if AutoCloseable
+   */
+
+  StreamingBoxedList(Iterator<L> source) {
+    this.source = source;
+  }
+
+  /**
+   * Does not consume the stream, but may block until the first item arrives
+   *
+   * @return if the source has no items
+   */
+
+  @Override
+  public boolean isEmpty() {
+    if (this.consumed.get()) {
+      throw new IllegalStateException("stream has already been consumed");
+    }
+    return !this.source.hasNext();
+  }
+
+  @Override
+  public Stream<L> stream() {
+    this.claim();
+    Spliterator<L> spliterator = Spliterators.spliteratorUnknownSize(this.source, Spliterator.ORDERED);
+    return StreamSupport.stream(spliterator, false).onClose(this::close);
+  }
+
+  @Override
+  boolean traverse(Sink<L> sink) {
+    this.claim();
+    try {
+      while (this.source.hasNext()) {
+        if (!sink.push(this.source.next())) {
+          return false;
+        }
+      }
+      return true;
+    } finally {
+      this.close();
+    }
+  }
+
+  @Override
+  int estimateSize() {
+    return 0;
+  }
+
+  private void claim() {
+    if (this.consumed.getAndSet(true)) {
+      throw new IllegalStateException("stream has already been consumed");
+    }
+  }
+
+  private void close() {
+    if (this.source instanceof AutoCloseable) {
+      try {
+        ((AutoCloseable) this.source).close();
+      } catch (Exception e) {
+        // the source has already been consumed
+      }
+    }
+  }
+
+}
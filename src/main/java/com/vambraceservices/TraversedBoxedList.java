@@ -0,0 +1,92 @@
+package com.vambraceservices;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * A BoxedList that stores nothing itself, and implements every terminal
+ * operation with a single traversal, and at most one allocation for the result.
+ *
+ * @param <L> produced type
+ */
+
+abstract class TraversedBoxedList<L> extends BoxedList<L> {
+
+  TraversedBoxedList() {
+    super(null);
+  }
+
+  @Override
+  abstract boolean traverse(Sink<L> sink);
+
+  @Override
+  abstract int estimateSize();
+
+  @Override
+  boolean isRandomAccess() {
+    return false;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return this.traverse(item -> false);
+  }
+
+  @Override
+  public Optional<L> first() {
+    List<L> found = new ArrayList<>(1);
+    this.traverse(item -> {
+      found.add(item);
+      return false;
+    });
+    return found.isEmpty() ? Optional.empty() : Optional.ofNullable(found.get(0));
+  }
+
+  @Override
+  public List<L> get() {
+    return this.copy();
+  }
+
+  @Override
+  public List<L> get(Supplier<List<L>> builder) {
+    List<L> list = builder.get();
+    this.traverse(list::add);
+    return list.isEmpty() ? Collections.emptyList() : list;
+  }
+
+  @Override
+  public List<L> view() {
+    return Collections.unmodifiableList(this.copy());
+  }
+
+  @Override
+  public List<L> copy() {
+    return this.get(ArrayList::new);
+  }
+
+  @Override
+  public List<L> copy(IntFunction<List<L>> builder) {
+    return this.get(() -> builder.apply(this.estimateSize()));
+  }
+
+  @Override
+  public int size() {
+    int[] count = new int[1];
+    this.traverse(item -> {
+      count[0]++;
+      return true;
+    });
+    return count[0];
+  }
+
+  @Override
+  public Stream<L> stream() {
+    return this.copy().stream();
+  }
+
+}
@@ -0,0 +1,82 @@
+package com.vambraceservices;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The UniqueBoxedIndex class
+ *
+ * Read only hash index of a BoxedList's items by a key unique to each item.
+ * Built once, on first use, and kept for the lifetime of the index.
+ *
+ * @param <K> key type
+ * @param <L> indexed type
+ */
+
+public final class UniqueBoxedIndex<K, L> {
+
+  private final Lazy<Map<K, L>> entries;
+
+  /**
+   * @param source - list to index
+   * @param key - returns the key of each item
+   */
+
+  UniqueBoxedIndex(BoxedList<L> source, Function<L, K> key) {
+    this.entries = Lazy.init(() -> build(source, key));
+  }
+
+  private static <K, L> Map<K, L> build(BoxedList<L> source, Function<L, K> key) {
+    Map<K, L> entries = new HashMap<>((int) (source.estimateSize() / 0.75f) + 1);
+    source.traverse(item -> {
+      K k = key.apply(item);
+      if (entries.containsKey(k)) {
+        throw new IllegalStateException("duplicate key " + k);
+      }
+      entries.put(k, item);
+      return true;
+    });
+    return Collections.unmodifiableMap(entries);
+  }
+
+  /**
+   * Throws
+   * IllegalStateException if two items have the same key
+   *
+   * @param key - key to look up
+   * @return the item with the key, or empty
+   */
+
+  public Boxed<L> lookup(K key) {
+    return Boxed.of(this.entries.get().get(key));
+  }
+
+  /**
+   * @param key - key to look up
+   * @return if an item has the key
+   */
+
+  public boolean contains(K key) {
+    return this.entries.get().containsKey(key);
+  }
+
+  /**
+   * @return unmodifiable set of all keys
+   */
+
+  public Set<K> keys() {
+    return this.entries.get().keySet();
+  }
+
+  /**
+   * @return the number of keys
+   */
+
+  public int size() {
+    return this.entries.get().size();
+  }
+
+}
@@ -0,0 +1,55 @@
+package com.vambraceservices;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BoxedAsyncTest {
+
+  @Test
+  public void mapAsync() throws Exception {
+
+    // when (value mapped asynchronously)
+    Boxed<Integer> length = BoxedAsync
+        .from(() -> "test")
+        .mapAsync(String::length)
+        .filter(v -> v > 2)
+        .join();
+
+    // then
+    Assert.assertEquals("maps value", Integer.valueOf(4), length.orElse(0));
+  }
+
+  @Test
+  public void emptyShortCircuits() throws Exception {
+
+    // given
+    AtomicInteger calls = new AtomicInteger();
+
+    // when (empty box continued asynchronously)
+    Boxed<Integer> result = Boxed.<String>empty()
+        .async(Runnable::run)
+        .mapAsync(v -> calls.incrementAndGet())
+        .flatmapAsync(v -> Boxed.of(calls.incrementAndGet()))
+        .join();
+
+    // then (no step is called)
+    Assert.assertTrue("result is empty", result.isEmpty());
+    Assert.assertEquals("functions not called", 0, calls.get());
+  }
+
+  @Test
+  public void compose() throws Exception {
+
+    // when (async box composed with another)
+    Boxed<String> result = Boxed.of(2)
+        .async()
+        .compose(v -> BoxedAsync.from(() -> "value " + v))
+        .join();
+
+    // then
+    Assert.assertEquals("composes value", "value 2", result.orElse(null));
+  }
+
+}
@@ -0,0 +1,43 @@
+package com.vambraceservices;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BoxedDoubleTest {
+
+  @Test
+  public void testBoxing() throws Exception {
+    // when (value boxed)
+    BoxedDouble boxed = BoxedDouble.of(4d);
+    // then (box stores value)
+    Assert.assertTrue("stores value", boxed.get().isPresent());
+    // when (value doubled, and filtered)
+    BoxedDouble doubled = boxed.map(v -> v * 2).filter(v -> v > 5);
+    // then (new box stores result)
+    Assert.assertEquals("doubles value", 8d, doubled.orElse(0d), 0d);
+    // when (filter rejects value)
+    BoxedDouble rejected = boxed.filter(v -> v > 10);
+    // then (shared empty returned)
+    Assert.assertSame("rejected is empty", BoxedDouble.empty(), rejected);
+    Assert.assertFalse("empty optional", rejected.get().isPresent());
+    // when (null wrapper)
+    BoxedDouble fromNull = BoxedDouble.of((Double) null);
+    // then (box is empty)
+    Assert.assertTrue("null is empty", fromNull.isEmpty());
+  }
+
+  @Test
+  public void testConversion() throws Exception {
+    // when (converted from Boxed)
+    BoxedDouble length = Boxed.of("four").mapToDouble(String::length);
+    // then
+    Assert.assertEquals("converts from Boxed", 4d, length.orElse(0d), 0d);
+    // when (converted back to Boxed)
+    Boxed<String> text = length.mapToObj(v -> "size " + v);
+    // then
+    Assert.assertTrue("converts to Boxed", text.isNotEmpty());
+    Assert.assertTrue("empty converts to empty", Boxed.<String>empty().mapToDouble(String::length).isEmpty());
+    Assert.assertTrue("empty boxes to empty", BoxedDouble.empty().boxed().isEmpty());
+  }
+
+}
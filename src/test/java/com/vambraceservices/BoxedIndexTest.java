@@ -0,0 +1,89 @@
+package com.vambraceservices;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+public class BoxedIndexTest {
+
+  private final BoxedList<String> list = BoxedList.of(Arrays.asList("one", "two", "three", "four", "five"));
+
+  @Test
+  public void indexBy() throws Exception {
+
+    // given
+    AtomicInteger calls = new AtomicInteger();
+    Function<String, Integer> length = v -> {
+      calls.incrementAndGet();
+      return v.length();
+    };
+
+    // when
+    BoxedIndex<Integer, String> index = list.indexBy(length);
+
+    // then (built lazily, once)
+    Assert.assertEquals("not built yet", 0, calls.get());
+    Assert.assertEquals("finds all in order", Arrays.asList("four", "five"), index.lookup(4).get());
+    Assert.assertTrue("missing key is empty", index.lookup(9).isEmpty());
+    Assert.assertEquals("distinct keys", 3, index.size());
+    Assert.assertSame("cached on list", index, list.indexBy(length));
+    list.indexBy(length).lookup(3);
+    Assert.assertEquals("built once", 5, calls.get());
+  }
+
+  @Test
+  public void uniqueIndexBy() throws Exception {
+
+    // when
+    UniqueBoxedIndex<Character, String> index = list.filter(v -> !v.equals("four")).uniqueIndexBy(v -> v.charAt(1));
+
+    // then
+    Assert.assertEquals("finds item", "three", index.lookup('h').orElse(null));
+    Assert.assertTrue("missing key is empty", index.lookup('z').isEmpty());
+    Assert.assertTrue("contains key", index.contains('n'));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void uniqueIndexByDuplicate() throws Exception {
+
+    // then
+    list.uniqueIndexBy(String::length).lookup(3);
+  }
+
+  @Test
+  public void indexByInt() throws Exception {
+
+    // when
+    IntBoxedIndex<String> index = list.indexByInt(String::length);
+
+    // then
+    Assert.assertEquals("finds all in order", Arrays.asList("one", "two"), index.lookup(3).get());
+    Assert.assertEquals("finds one", Arrays.asList("three"), index.lookup(5).get());
+    Assert.assertTrue("missing key is empty", index.lookup(-1).isEmpty());
+    Assert.assertFalse("does not contain", index.contains(0));
+    Assert.assertEquals("distinct keys", 3, index.size());
+    Assert.assertTrue("empty list", BoxedList.<String>empty().indexByInt(String::length).lookup(0).isEmpty());
+    Assert.assertSame("shared view", index.lookup(3), index.lookup(3));
+  }
+
+  @Test
+  public void keepsOneIndexPerKind() throws Exception {
+
+    // given
+    ToIntFunction<String> first = String::length;
+    ToIntFunction<String> second = String::length;
+
+    // when
+    IntBoxedIndex<String> index = list.indexByInt(first);
+    IntBoxedIndex<String> replaced = list.indexByInt(second);
+
+    // then
+    Assert.assertSame("same function reuses index", replaced, list.indexByInt(second));
+    Assert.assertNotSame("new function replaces index", index, list.indexByInt(first));
+  }
+
+}
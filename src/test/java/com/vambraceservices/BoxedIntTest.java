@@ -0,0 +1,43 @@
+package com.vambraceservices;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BoxedIntTest {
+
+  @Test
+  public void testBoxing() throws Exception {
+    // when (value boxed)
+    BoxedInt boxed = BoxedInt.of(4);
+    // then (box stores value)
+    Assert.assertTrue("stores value", boxed.get().isPresent());
+    // when (value doubled, and filtered)
+    BoxedInt doubled = boxed.map(v -> v * 2).filter(v -> v > 5);
+    // then (new box stores result)
+    Assert.assertEquals("doubles value", 8, doubled.orElse(0));
+    // when (filter rejects value)
+    BoxedInt rejected = boxed.filter(v -> v > 10);
+    // then (shared empty returned)
+    Assert.assertSame("rejected is empty", BoxedInt.empty(), rejected);
+    Assert.assertFalse("empty optional", rejected.get().isPresent());
+    // when (null wrapper)
+    BoxedInt fromNull = BoxedInt.of((Integer) null);
+    // then (box is empty)
+    Assert.assertTrue("null is empty", fromNull.isEmpty());
+  }
+
+  @Test
+  public void testConversion() throws Exception {
+    // when (converted from Boxed)
+    BoxedInt length = Boxed.of("four").mapToInt(String::length);
+    // then
+    Assert.assertEquals("converts from Boxed", 4, length.orElse(0));
+    // when (converted back to Boxed)
+    Boxed<String> text = length.mapToObj(v -> "size " + v);
+    // then
+    Assert.assertTrue("converts to Boxed", text.isNotEmpty());
+    Assert.assertTrue("empty converts to empty", Boxed.<String>empty().mapToInt(String::length).isEmpty());
+    Assert.assertTrue("empty boxes to empty", BoxedInt.empty().boxed().isEmpty());
+  }
+
+}
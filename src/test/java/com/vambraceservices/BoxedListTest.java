@@ -4,10 +4,17 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 public class BoxedListTest {
@@ -66,6 +73,51 @@ public class BoxedListTest {
     Assert.assertFalse("has values", linkedValid.isEmpty());
   }
 
+  @Test
+  public void view() throws Exception {
+
+    // given
+    List<String> backing = new ArrayList<>(container.getContainedList());
+
+    // when (view of list)
+    List<String> view = BoxedList.of(backing).view();
+
+    // then (view is not a copy, and keeps random access)
+    Assert.assertTrue("keeps random access", view instanceof RandomAccess);
+    backing.set(0, "changed");
+    Assert.assertEquals("reflects backing list", "changed", view.get(0));
+
+    // when (view of empty list)
+    List<String> empty = Boxed
+        .of(container)
+        .mapList(TestListContainer::getNullList)
+        .view();
+
+    // then
+    Assert.assertTrue("empty view", empty.isEmpty());
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void viewIsUnmodifiable() throws Exception {
+
+    // when
+    List<String> view = BoxedList.of(container.getContainedList()).view();
+
+    // then
+    view.add("fails");
+  }
+
+  @Test
+  public void copy() throws Exception {
+
+    // when (copy into any list)
+    List<String> copy = BoxedList.of(container.getContainedList()).copy(ArrayList::new);
+
+    // then (copy is modifiable)
+    copy.add("four");
+    Assert.assertEquals("copied values", 4, copy.size());
+  }
+
   @Test
   public void first() throws Exception {
 
@@ -132,6 +184,205 @@ public class BoxedListTest {
 
   }
 
+  @Test
+  public void operators() throws Exception {
+
+    // given
+    List<String> traversed = new ArrayList<>();
+    BoxedList<String> list = BoxedList.of(Arrays.asList("one", "two", "three", "four", "five", "six"));
+
+    // when (operators chained)
+    BoxedList<Integer> lengths = list
+        .filter(v -> traversed.add(v))
+        .map(String::length)
+        .distinct()
+        .flatMap(v -> BoxedList.of(Arrays.asList(v, v * 10)))
+        .limit(4);
+
+    // then (nothing traversed until a terminal operation)
+    Assert.assertTrue("lazy", traversed.isEmpty());
+
+    // when (terminal operation)
+    List<Integer> result = lengths.get();
+
+    // then (single traversal that stops once the limit is reached)
+    Assert.assertEquals("fused result", Arrays.asList(3, 30, 5, 50), result);
+    Assert.assertEquals("stops early", Arrays.asList("one", "two", "three"), traversed);
+    Assert.assertEquals("size", 4, lengths.size());
+    Assert.assertEquals("first", Integer.valueOf(3), lengths.first().orElse(0));
+  }
+
+  @Test
+  public void reduce() throws Exception {
+
+    // given
+    BoxedList<Integer> lengths = BoxedList.of(container.getContainedList()).map(String::length);
+
+    // then
+    Assert.assertEquals("reduces with identity", Integer.valueOf(11), lengths.reduce(0, Integer::sum));
+    Assert.assertEquals("reduces", Integer.valueOf(11), lengths.reduce(Integer::sum).orElse(0));
+    Assert.assertTrue("empty reduces to empty", lengths.filter(v -> v > 5).reduce(Integer::sum).isEmpty());
+    Assert.assertTrue("filtered list is empty", lengths.filter(v -> v > 5).isEmpty());
+  }
+
+  @Test
+  public void parallelMap() throws Exception {
+
+    // given
+    List<Integer> numbers = new ArrayList<>();
+    for (int i = 0; i < 10000; i++) {
+      numbers.add(i);
+    }
+
+    // when (mapped in parallel in small chunks)
+    ForkJoinPool pool = new ForkJoinPool(4);
+    List<Integer> doubled;
+    try {
+      doubled = BoxedList.of(numbers)
+          .parallelMap(v -> v * 2, 100, pool)
+          .view();
+    } finally {
+      pool.shutdown();
+    }
+
+    // then (order is kept)
+    Assert.assertEquals("maps all", 10000, doubled.size());
+    for (int i = 0; i < doubled.size(); i++) {
+      Assert.assertEquals("keeps order", i * 2, doubled.get(i).intValue());
+    }
+    Assert.assertTrue("empty maps to empty", BoxedList.<Integer>empty().parallelMap(v -> v).isEmpty());
+  }
+
+  @Test
+  public void parallelMapRunsOperatorsOnce() throws Exception {
+
+    // given (a lazy operator with a side effect)
+    AtomicInteger calls = new AtomicInteger();
+    BoxedList<Integer> lengths = BoxedList.of(Arrays.asList("one", "three", "five"))
+        .map(value -> {
+          calls.incrementAndGet();
+          return value.length();
+        });
+
+    // when
+    List<Integer> doubled = lengths.parallelMap(v -> v * 2).view();
+
+    // then
+    Assert.assertEquals("mapped", Arrays.asList(6, 10, 8), doubled);
+    Assert.assertEquals("operator ran once per item", 3, calls.get());
+  }
+
+  @Test
+  public void batches() throws Exception {
+
+    // given
+    BoxedList<Integer> list = BoxedList.of(Arrays.asList(1, 2, 3, 4, 5));
+
+    // when (batched from a random access list, and from a fused list)
+    List<List<Integer>> views = list.batches(2).get();
+    List<List<Integer>> buffered = list.map(v -> v).batches(2).get();
+
+    // then (last batch is smaller)
+    List<List<Integer>> expected = Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 4), Arrays.asList(5));
+    Assert.assertEquals("batches views", expected, views);
+    Assert.assertEquals("batches buffered", expected, buffered);
+  }
+
+  @Test
+  public void windows() throws Exception {
+
+    // given
+    BoxedList<Integer> list = BoxedList.of(Arrays.asList(1, 2, 3, 4, 5));
+
+    // then (only full windows are kept)
+    List<List<Integer>> sliding = Arrays.asList(Arrays.asList(1, 2, 3), Arrays.asList(3, 4, 5));
+    Assert.assertEquals("sliding views", sliding, list.windows(3, 2).get());
+    Assert.assertEquals("sliding buffered", sliding, list.map(v -> v).windows(3, 2).get());
+    List<List<Integer>> sparse = Arrays.asList(Arrays.asList(1), Arrays.asList(4));
+    Assert.assertEquals("sparse views", sparse, list.windows(1, 3).get());
+    Assert.assertEquals("sparse buffered", sparse, list.map(v -> v).windows(1, 3).get());
+  }
+
+  @Test
+  public void forEachBatch() throws Exception {
+
+    // given
+    List<Integer> sizes = new ArrayList<>();
+    AtomicInteger total = new AtomicInteger();
+    BoxedList<Integer> list = BoxedList.of(Arrays.asList(1, 2, 3, 4, 5, 6, 7));
+
+    // when
+    list.forEachBatch(3, batch -> sizes.add(batch.size()));
+    list.forEachBatchAsync(2, 2, batch -> batch.forEach(total::addAndGet)).join();
+
+    // then
+    Assert.assertEquals("batch sizes", Arrays.asList(3, 3, 1), sizes);
+    Assert.assertEquals("all batches run", 28, total.get());
+  }
+
+  @Test(expected = CompletionException.class)
+  public void forEachBatchAsyncFails() throws Exception {
+
+    // when
+    BoxedList.of(Arrays.asList(1, 2, 3))
+        .forEachBatchAsync(1, 1, batch -> {
+          throw new IllegalStateException();
+        })
+        .join();
+  }
+
+  @Test
+  public void topK() throws Exception {
+
+    // given
+    List<Integer> numbers = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      numbers.add((i * 7919) % 1000);
+    }
+
+    // when
+    List<Integer> largest = BoxedList.of(numbers).topK(3, Comparator.reverseOrder()).get();
+    List<Integer> smallest = BoxedList.of(numbers).map(v -> v).topK(2, Comparator.naturalOrder()).get();
+
+    // then
+    Assert.assertEquals("largest in order", Arrays.asList(999, 998, 997), largest);
+    Assert.assertEquals("smallest in order", Arrays.asList(0, 1), smallest);
+    Assert.assertTrue("empty", BoxedList.<Integer>empty().topK(3, Comparator.naturalOrder()).isEmpty());
+  }
+
+  @Test
+  public void sorted() throws Exception {
+
+    // when
+    List<String> sorted = BoxedList.of(container.getContainedList()).sorted(Comparator.naturalOrder()).get();
+
+    // then
+    Assert.assertEquals("sorted", Arrays.asList("one", "three", "two"), sorted);
+  }
+
+  @Test
+  public void groupBy() throws Exception {
+
+    // given
+    List<Integer> numbers = new ArrayList<>();
+    for (int i = 0; i < 10000; i++) {
+      numbers.add(i);
+    }
+    BoxedList<Integer> list = BoxedList.of(numbers);
+
+    // when
+    Map<Integer, List<Integer>> byRemainder = list.groupBy(v -> v % 3, Collectors.toList());
+    Map<Boolean, Long> counts = list.countBy(v -> v < 100);
+
+    // then (grouped in encounter order)
+    Assert.assertEquals("keys", 3, byRemainder.size());
+    Assert.assertEquals("group size", 3334, byRemainder.get(0).size());
+    Assert.assertEquals("encounter order", Integer.valueOf(9999), byRemainder.get(0).get(3333));
+    Assert.assertEquals("encounter order", Integer.valueOf(3), byRemainder.get(0).get(1));
+    Assert.assertEquals("counts", Long.valueOf(100), counts.get(true));
+    Assert.assertEquals("counts", Long.valueOf(9900), counts.get(false));
+  }
+
   private class TestListContainer<T> {
     private List<T> containedList;
     private List<T> nullList;
@@ -0,0 +1,43 @@
+package com.vambraceservices;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BoxedLongTest {
+
+  @Test
+  public void testBoxing() throws Exception {
+    // when (value boxed)
+    BoxedLong boxed = BoxedLong.of(4L);
+    // then (box stores value)
+    Assert.assertTrue("stores value", boxed.get().isPresent());
+    // when (value doubled, and filtered)
+    BoxedLong doubled = boxed.map(v -> v * 2).filter(v -> v > 5);
+    // then (new box stores result)
+    Assert.assertEquals("doubles value", 8L, doubled.orElse(0L));
+    // when (filter rejects value)
+    BoxedLong rejected = boxed.filter(v -> v > 10);
+    // then (shared empty returned)
+    Assert.assertSame("rejected is empty", BoxedLong.empty(), rejected);
+    Assert.assertFalse("empty optional", rejected.get().isPresent());
+    // when (null wrapper)
+    BoxedLong fromNull = BoxedLong.of((Long) null);
+    // then (box is empty)
+    Assert.assertTrue("null is empty", fromNull.isEmpty());
+  }
+
+  @Test
+  public void testConversion() throws Exception {
+    // when (converted from Boxed)
+    BoxedLong length = Boxed.of("four").mapToLong(String::length);
+    // then
+    Assert.assertEquals("converts from Boxed", 4L, length.orElse(0L));
+    // when (converted back to Boxed)
+    Boxed<String> text = length.mapToObj(v -> "size " + v);
+    // then
+    Assert.assertTrue("converts to Boxed", text.isNotEmpty());
+    Assert.assertTrue("empty converts to empty", Boxed.<String>empty().mapToLong(String::length).isEmpty());
+    Assert.assertTrue("empty boxes to empty", BoxedLong.empty().boxed().isEmpty());
+  }
+
+}
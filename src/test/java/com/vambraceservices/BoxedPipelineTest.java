@@ -0,0 +1,65 @@
+package com.vambraceservices;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+public class BoxedPipelineTest {
+
+  @Test
+  public void apply() throws Exception {
+
+    // given (a pipeline of steps)
+    BoxedPipeline<String, Integer> pipeline = Boxed.<String>pipeline()
+        .filter(v -> !v.isEmpty())
+        .map(String::length)
+        .omap(v -> Optional.of(v * 2))
+        .flatmap(v -> Boxed.of(v + 1));
+
+    // when (applied to a valid seed)
+    Boxed<Integer> valid = pipeline.apply("four");
+
+    // then (all steps applied)
+    Assert.assertEquals("applies steps", Integer.valueOf(9), valid.orElse(0));
+
+    // when (applied to seeds that are filtered or null)
+    Boxed<Integer> filtered = pipeline.apply("");
+    Boxed<Integer> empty = pipeline.apply(null);
+
+    // then (results are empty)
+    Assert.assertTrue("filtered is empty", filtered.isEmpty());
+    Assert.assertTrue("null is empty", empty.isEmpty());
+  }
+
+  @Test
+  public void or() throws Exception {
+
+    // given (a pipeline with an alternative)
+    BoxedPipeline<String, String> pipeline = Boxed.<String>pipeline()
+        .filter(v -> v.length() > 3)
+        .or(v -> v != null, () -> "short");
+
+    // then
+    Assert.assertEquals("keeps value", "longer", pipeline.apply("longer").orElse(null));
+    Assert.assertEquals("uses alternative", "short", pipeline.apply("abc").orElse(null));
+  }
+
+  @Test
+  public void applyAll() throws Exception {
+
+    // given
+    BoxedPipeline<String, Integer> pipeline = Boxed.<String>pipeline()
+        .map(v -> v.length() > 3, String::length);
+
+    // when
+    List<Integer> lengths = pipeline.applyAll(Arrays.asList("one", "three", "seven")).get();
+
+    // then (only valid results are kept, in order)
+    Assert.assertEquals("keeps valid results", Arrays.asList(5, 5), lengths);
+    Assert.assertTrue("empty input is empty", pipeline.applyAll(null).isEmpty());
+  }
+
+}
@@ -4,6 +4,7 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.Objects;
+import java.util.Optional;
 
 public class BoxedTest {
 
@@ -32,6 +33,42 @@ public class BoxedTest {
     // when (request to replace value with true, but only if current value fails predicate)
   }
 
+  @Test
+  public void testEmptyIsShared() throws Exception {
+    // when (boxes are empty from different sources)
+    Boxed<String> fromNull = Boxed.of(null);
+    Boxed<String> fromSupplier = Boxed.from(() -> null);
+    Boxed<Integer> mapped = fromNull.map(String::length);
+    // then (all resolve to the same empty instance)
+    Assert.assertSame("of null is shared empty", Boxed.empty(), fromNull);
+    Assert.assertSame("from null is shared empty", Boxed.empty(), fromSupplier);
+    Assert.assertSame("mapping empty is shared empty", Boxed.empty(), mapped);
+  }
+
+  @Test
+  public void testChaining() throws Exception {
+    // given
+    Boxed<String> boxed = Boxed.of("chain");
+    // when (value passes through filter, omap and flatmap)
+    Boxed<Integer> result = boxed
+        .filter(v -> v.startsWith("c"))
+        .omap(v -> Optional.of(v.length()))
+        .flatmap(v -> Boxed.of(v * 2));
+    // then (value is transformed)
+    Assert.assertEquals("chains value", Integer.valueOf(10), result.orElse(0));
+    // when (filter rejects value)
+    Boxed<Integer> rejected = boxed
+        .filter(String::isEmpty)
+        .flatmap(v -> Boxed.of(v.length()));
+    // then (box is empty and alternative is returned)
+    Assert.assertTrue("rejected is empty", rejected.isEmpty());
+    Assert.assertEquals("falls back", Integer.valueOf(-1), rejected.orElseGet(() -> -1));
+    // when (filter keeps value)
+    Boxed<String> kept = boxed.filter(v -> true);
+    // then (no new box is created)
+    Assert.assertSame("filter keeps same box", boxed, kept);
+  }
+
 
 
 }
@@ -0,0 +1,77 @@
+package com.vambraceservices;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+public class ConcurrentBoxedListBuilderTest {
+
+  @Test
+  public void build() throws Exception {
+
+    // given
+    ConcurrentBoxedListBuilder<Integer> builder = BoxedList.concurrentBuilder();
+    List<Thread> producers = new ArrayList<>();
+
+    // when (many threads add at once)
+    for (int t = 0; t < 8; t++) {
+      int offset = t * 10000;
+      producers.add(new Thread(() -> {
+        for (int i = 0; i < 10000; i++) {
+          builder.add(offset + i);
+        }
+      }));
+    }
+    producers.forEach(Thread::start);
+    for (Thread producer : producers) {
+      producer.join();
+    }
+    BoxedList<Integer> list = builder.build();
+
+    // then (every item is kept once)
+    Assert.assertEquals("size", 80000, list.size());
+    Set<Integer> distinct = new HashSet<>(list.view());
+    Assert.assertEquals("distinct", 80000, distinct.size());
+    Assert.assertEquals("sum", 3199960000L, list.stream().mapToLong(Integer::longValue).sum());
+  }
+
+  @Test
+  public void singleThreadKeepsOrder() throws Exception {
+
+    // when
+    BoxedList<Integer> list = BoxedList.<Integer>concurrentBuilder().addAll(() -> IntStream.range(0, 100).iterator()).build();
+
+    // then
+    Assert.assertEquals("first", Integer.valueOf(0), list.first().orElse(-1));
+    Assert.assertEquals("in order", Integer.valueOf(99), list.view().get(99));
+    Assert.assertTrue("empty", BoxedList.<Integer>concurrentBuilder().build().isEmpty());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void addAfterBuild() throws Exception {
+
+    // given
+    ConcurrentBoxedListBuilder<Integer> builder = BoxedList.concurrentBuilder();
+    builder.add(1).build();
+
+    // then
+    builder.add(2);
+  }
+
+  @Test
+  public void collector() throws Exception {
+
+    // when
+    BoxedList<Integer> list = IntStream.range(0, 50000).boxed().parallel().collect(BoxedList.concurrentCollector());
+
+    // then
+    Assert.assertEquals("size", 50000, list.size());
+    Assert.assertEquals("distinct", 50000, new HashSet<>(list.view()).size());
+  }
+
+}
@@ -0,0 +1,39 @@
+package com.vambraceservices;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DoubleBoxedListTest {
+
+  @Test
+  public void aggregates() throws Exception {
+
+    // given
+    DoubleBoxedList list = DoubleBoxedList.of(2.5, -1d, 4d);
+
+    // then
+    Assert.assertEquals("min", -1d, list.min().getAsDouble(), 0);
+    Assert.assertEquals("max", 4d, list.max().getAsDouble(), 0);
+    Assert.assertEquals("sorted min", -1d, list.sort().min().getAsDouble(), 0);
+    Assert.assertEquals("sorted max", 4d, list.sort().max().getAsDouble(), 0);
+    Assert.assertFalse("empty has no min", DoubleBoxedList.empty().min().isPresent());
+  }
+
+  @Test
+  public void nanWins() throws Exception {
+
+    // given
+    DoubleBoxedList unsorted = DoubleBoxedList.of(2.5, Double.NaN, -1d);
+
+    // when
+    DoubleBoxedList sorted = unsorted.sort();
+
+    // then (the same answer either way)
+    Assert.assertTrue("sorted", sorted.isSorted());
+    Assert.assertTrue("unsorted min", Double.isNaN(unsorted.min().getAsDouble()));
+    Assert.assertTrue("unsorted max", Double.isNaN(unsorted.max().getAsDouble()));
+    Assert.assertTrue("sorted min", Double.isNaN(sorted.min().getAsDouble()));
+    Assert.assertTrue("sorted max", Double.isNaN(sorted.max().getAsDouble()));
+  }
+
+}
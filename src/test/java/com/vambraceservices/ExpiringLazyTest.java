@@ -0,0 +1,147 @@
+package com.vambraceservices;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ExpiringLazyTest {
+
+  @Test
+  public void expires() throws Exception {
+
+    // given
+    AtomicInteger calls = new AtomicInteger();
+    ExpiringLazy<Integer> lazy = Lazy.expiring(Duration.ofMillis(50), calls::incrementAndGet);
+
+    // when
+    Integer first = lazy.get();
+    Integer cached = lazy.get();
+    Thread.sleep(80);
+
+    // then
+    Assert.assertEquals("loads value", Integer.valueOf(1), first);
+    Assert.assertEquals("keeps value", Integer.valueOf(1), cached);
+    Assert.assertFalse("expired", lazy.isLoaded());
+    Assert.assertEquals("reloads after expiry", Integer.valueOf(2), lazy.get());
+
+    // when
+    lazy.invalidate();
+
+    // then
+    Assert.assertEquals("reloads after invalidate", Integer.valueOf(3), lazy.get());
+  }
+
+  @Test
+  public void refreshAhead() throws Exception {
+
+    // given (background reloads queued rather than run)
+    AtomicInteger calls = new AtomicInteger();
+    List<Runnable> background = new ArrayList<>();
+    ExpiringLazy<Integer> lazy = Lazy.expiring(Duration.ofSeconds(60), Duration.ofSeconds(59),
+                                               calls::incrementAndGet, background::add);
+
+    // when (value is within refresh ahead of expiry)
+    Integer first = lazy.get();
+    Thread.sleep(1100);
+    Integer during = lazy.get();
+    lazy.get();
+
+    // then (current value returned, and only one reload started)
+    Assert.assertEquals("current value", first, during);
+    Assert.assertEquals("one reload", 1, background.size());
+
+    // when (reload runs)
+    background.get(0).run();
+
+    // then
+    Assert.assertEquals("refreshed value", Integer.valueOf(2), lazy.get());
+  }
+
+  @Test
+  public void failedRefreshKeepsValue() throws Exception {
+
+    // given
+    AtomicInteger calls = new AtomicInteger();
+    ExpiringLazy<String> lazy = Lazy.expiring(Duration.ofSeconds(60), Duration.ofSeconds(59), () -> {
+      if (calls.incrementAndGet() > 1) {
+        throw new IllegalStateException();
+      }
+      return "good";
+    }, Runnable::run);
+
+    // when
+    lazy.get();
+    Thread.sleep(1100);
+
+    // then
+    Assert.assertEquals("keeps last good value", "good", lazy.get());
+    Assert.assertEquals("reload attempted", 2, calls.get());
+    Assert.assertTrue("still loaded", lazy.isLoaded());
+  }
+
+  @Test
+  public void failedReloadBacksOff() throws Exception {
+
+    // given (loads once, then fails)
+    AtomicInteger calls = new AtomicInteger();
+    ExpiringLazy<String> lazy = Lazy.expiring(Duration.ofMillis(50), () -> {
+      if (calls.incrementAndGet() > 1) {
+        throw new IllegalStateException("down");
+      }
+      return "good";
+    }, Lazy.Policy.retry(Duration.ofSeconds(30), Duration.ofSeconds(30)));
+
+    // when (value expires and the reload fails)
+    lazy.get();
+    Thread.sleep(80);
+    String failedReload = lazy.get();
+    String backingOff = lazy.get();
+
+    // then (the loader is not called again until the backoff passes)
+    Assert.assertEquals("last good value", "good", failedReload);
+    Assert.assertEquals("still last good value", "good", backingOff);
+    Assert.assertEquals("one failed reload", 2, calls.get());
+  }
+
+  @Test
+  public void failedFirstLoadBacksOff() {
+
+    // given
+    AtomicInteger calls = new AtomicInteger();
+    IllegalStateException down = new IllegalStateException("down");
+    ExpiringLazy<String> lazy = Lazy.expiring(Duration.ofSeconds(60), () -> {
+      calls.incrementAndGet();
+      throw down;
+    }, Lazy.Policy.retry(Duration.ofSeconds(30), Duration.ofSeconds(30)));
+
+    for (int i = 0; i < 3; i++) {
+
+      // when
+      try {
+        lazy.get();
+        Assert.fail("loaded");
+      } catch (IllegalStateException e) {
+
+        // then (the failure is rethrown without loading again)
+        Assert.assertSame("failure", down, e);
+      }
+    }
+    Assert.assertEquals("one load", 1, calls.get());
+
+    // when
+    lazy.invalidate();
+    try {
+      lazy.get();
+    } catch (IllegalStateException e) {
+      // expected
+    }
+
+    // then (invalidate clears the backoff)
+    Assert.assertEquals("loads again", 2, calls.get());
+  }
+
+}
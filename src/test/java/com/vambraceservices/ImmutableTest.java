@@ -3,6 +3,14 @@ package com.vambraceservices;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
 import static org.mockito.Mockito.spy;
 
 public class ImmutableTest {
@@ -51,4 +59,167 @@ public class ImmutableTest {
     Assert.assertTrue("knows there has a value", testContainer.hasValue());
   }
 
+  @Test
+  public void trySetOnce() {
+
+    // given
+    Immutable<String> testContainer = new Immutable<>();
+
+    // when
+    boolean first = testContainer.trySet("first");
+    boolean second = testContainer.trySet("second");
+
+    // then
+    Assert.assertTrue("first set", first);
+    Assert.assertFalse("second refused", second);
+    Assert.assertTrue("keeps first", testContainer.test("first"::equals));
+  }
+
+  @Test
+  public void awaitWakesOnSet() throws Exception {
+
+    // given
+    Immutable<String> testContainer = new Immutable<>();
+    CompletableFuture<String> awaited = new CompletableFuture<>();
+    Thread waiter = new Thread(() -> {
+      try {
+        awaited.complete(testContainer.await());
+      } catch (InterruptedException e) {
+        awaited.completeExceptionally(e);
+      }
+    });
+    waiter.start();
+
+    // when
+    Thread.sleep(50);
+    testContainer.set("handed off");
+
+    // then
+    Assert.assertEquals("value", "handed off", awaited.get(5, TimeUnit.SECONDS));
+    waiter.join();
+  }
+
+  @Test
+  public void awaitTimesOut() throws Exception {
+
+    // given
+    Immutable<String> testContainer = new Immutable<>();
+
+    // when
+    Boxed<String> missing = testContainer.await(Duration.ofMillis(20));
+    testContainer.set("later");
+
+    // then
+    Assert.assertTrue("timed out", missing.isEmpty());
+    Assert.assertEquals("set", "later", testContainer.await(Duration.ofMillis(20)).orElse(null));
+  }
+
+  @Test
+  public void onSetFiresOnce() throws Exception {
+
+    // given
+    Immutable<String> testContainer = new Immutable<>();
+    List<String> seen = new ArrayList<>();
+    testContainer.onSet(seen::add);
+    CompletableFuture<String> future = testContainer.toFuture();
+
+    // when
+    testContainer.set("value");
+    testContainer.trySet("ignored");
+    testContainer.onSet(seen::add);
+
+    // then
+    Assert.assertEquals("fired once each", Arrays.asList("value", "value"), seen);
+    Assert.assertEquals("future", "value", future.get());
+  }
+
+  @Test
+  public void timedOutWaitersAreUnlinked() throws Exception {
+
+    // given
+    Immutable<String> testContainer = new Immutable<>();
+    testContainer.onSet(value -> { });
+
+    // when (polled many times while unset)
+    for (int i = 0; i < 100; i++) {
+      testContainer.await(Duration.ofNanos(1000));
+    }
+    Thread.currentThread().interrupt();
+    try {
+      testContainer.await();
+      Assert.fail("should be interrupted");
+    } catch (InterruptedException e) {
+      // expected
+    }
+
+    // then (only the consumer is left)
+    Assert.assertEquals("queued", 1, testContainer.waiting());
+  }
+
+  @Test
+  public void failingConsumerDoesNotFailSet() {
+
+    // given
+    Immutable<String> testContainer = new Immutable<>();
+    List<String> seen = new ArrayList<>();
+    List<Throwable> uncaught = new ArrayList<>();
+    testContainer.onSet(value -> {
+      throw new IllegalStateException("consumer broke");
+    });
+    testContainer.onSet(seen::add);
+    Thread.UncaughtExceptionHandler previous = Thread.currentThread().getUncaughtExceptionHandler();
+    Thread.currentThread().setUncaughtExceptionHandler((thread, error) -> uncaught.add(error));
+
+    // when
+    boolean set;
+    try {
+      set = testContainer.trySet("value");
+    } finally {
+      Thread.currentThread().setUncaughtExceptionHandler(previous);
+    }
+
+    // then
+    Assert.assertTrue("set", set);
+    Assert.assertEquals("later consumer ran", Arrays.asList("value"), seen);
+    Assert.assertEquals("reported", "consumer broke", uncaught.get(0).getMessage());
+  }
+
+  @Test
+  public void consumerErrorStillWakesWaiters() throws Exception {
+
+    // given (a consumer that throws an Error, and a thread waiting after it)
+    Immutable<String> testContainer = new Immutable<>();
+    List<Throwable> uncaught = new ArrayList<>();
+    AtomicReference<String> awaited = new AtomicReference<>();
+    testContainer.onSet(value -> testContainer.set("again"));
+    Thread waiter = new Thread(() -> {
+      try {
+        awaited.set(testContainer.await());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    waiter.start();
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (testContainer.waiting() < 2 && System.nanoTime() - deadline < 0) {
+      Thread.sleep(10);
+    }
+    Thread.UncaughtExceptionHandler previous = Thread.currentThread().getUncaughtExceptionHandler();
+    Thread.currentThread().setUncaughtExceptionHandler((thread, error) -> uncaught.add(error));
+
+    // when
+    boolean set;
+    try {
+      set = testContainer.trySet("value");
+    } finally {
+      Thread.currentThread().setUncaughtExceptionHandler(previous);
+    }
+    waiter.join(5000);
+
+    // then
+    Assert.assertTrue("set", set);
+    Assert.assertEquals("waiter woken", "value", awaited.get());
+    Assert.assertTrue("error reported", uncaught.get(0) instanceof Error);
+  }
+
 }
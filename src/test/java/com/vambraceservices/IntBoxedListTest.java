@@ -0,0 +1,75 @@
+package com.vambraceservices;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+public class IntBoxedListTest {
+
+  @Test
+  public void of() throws Exception {
+
+    // given
+    int[] values = {5, 3, 9, 1};
+
+    // when
+    IntBoxedList list = IntBoxedList.of(values);
+    values[0] = 100;
+
+    // then (values were copied)
+    Assert.assertEquals("has copy of values", 5, list.first().getAsInt());
+    Assert.assertEquals("size", 4, list.size());
+    Assert.assertTrue("empty when no values", IntBoxedList.of().isEmpty());
+    Assert.assertFalse("empty has no first", IntBoxedList.empty().first().isPresent());
+  }
+
+  @Test
+  public void aggregates() throws Exception {
+
+    // given
+    IntBoxedList list = IntBoxedList.of(5, 3, 9, 1);
+
+    // then
+    Assert.assertEquals("sum", 18L, list.sum());
+    Assert.assertEquals("min", 1, list.min().getAsInt());
+    Assert.assertEquals("max", 9, list.max().getAsInt());
+    Assert.assertEquals("stream", 4, list.stream().filter(v -> v > 0).count());
+    Assert.assertFalse("empty has no max", IntBoxedList.empty().max().isPresent());
+  }
+
+  @Test
+  public void sort() throws Exception {
+
+    // when
+    IntBoxedList sorted = IntBoxedList.of(5, 3, 9, 1).sort();
+
+    // then
+    Assert.assertArrayEquals("sorted", new int[] {1, 3, 5, 9}, sorted.get());
+    Assert.assertEquals("finds key", 2, sorted.binarySearch(5));
+    Assert.assertTrue("missing key", sorted.binarySearch(4) < 0);
+    Assert.assertSame("already sorted", sorted, sorted.sort());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void binarySearchUnsorted() throws Exception {
+
+    // then
+    IntBoxedList.of(5, 3).binarySearch(3);
+  }
+
+  @Test
+  public void mapToInt() throws Exception {
+
+    // when (converted from mapList result)
+    IntBoxedList lengths = Boxed
+        .of(Arrays.asList("one", "three"))
+        .mapList(v -> v)
+        .mapToInt(String::length);
+
+    // then
+    Assert.assertArrayEquals("converted", new int[] {3, 5}, lengths.get());
+    Assert.assertEquals("converts back", Arrays.asList(3, 5), lengths.boxed().get());
+  }
+
+}
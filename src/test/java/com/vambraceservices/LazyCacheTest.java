@@ -0,0 +1,219 @@
+package com.vambraceservices;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class LazyCacheTest {
+
+  @Test
+  public void loadsOncePerKey() throws Exception {
+
+    // given
+    AtomicInteger calls = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+    LazyCache<String, Integer> cache = Lazy.keyed(key -> {
+      calls.incrementAndGet();
+      return key.length();
+    });
+    ExecutorService pool = Executors.newFixedThreadPool(8);
+
+    // when
+    List<Future<Integer>> results = new ArrayList<>();
+    for (int i = 0; i < 32; i++) {
+      results.add(pool.submit(() -> {
+        start.await();
+        return cache.get("four");
+      }));
+    }
+    start.countDown();
+    for (Future<Integer> result : results) {
+      Assert.assertEquals("value", Integer.valueOf(4), result.get());
+    }
+    pool.shutdown();
+
+    // then
+    Assert.assertEquals("one load", 1, calls.get());
+    Assert.assertEquals("one miss", 1, cache.stats().misses());
+    Assert.assertEquals("rest are hits", 31, cache.stats().hits());
+  }
+
+  @Test
+  public void getIfPresentCountsMisses() {
+
+    // given
+    LazyCache<String, Integer> cache = Lazy.keyed(String::length);
+    cache.get("four");
+
+    // when
+    boolean present = cache.getIfPresent("four").isNotEmpty();
+    boolean absent = cache.getIfPresent("five").isNotEmpty();
+
+    // then (the load and the absent key are misses, the cached key a hit)
+    Assert.assertTrue("present", present);
+    Assert.assertFalse("absent", absent);
+    Assert.assertEquals("hits", 1, cache.stats().hits());
+    Assert.assertEquals("misses", 2, cache.stats().misses());
+    Assert.assertEquals("hit rate", 1 / 3d, cache.stats().hitRate(), 1e-9);
+  }
+
+  @Test
+  public void evictsLeastRecentlyUsed() {
+
+    // given
+    LazyCache<Integer, String> cache = LazyCache.<Integer, String>builder(String::valueOf)
+        .maximumSize(2)
+        .build();
+
+    // when
+    cache.get(1);
+    cache.get(2);
+    cache.get(1);
+    cache.get(3);
+
+    // then
+    Assert.assertEquals("bounded", 2, cache.size());
+    Assert.assertTrue("recently used kept", cache.getIfPresent(1).isNotEmpty());
+    Assert.assertFalse("eldest evicted", cache.getIfPresent(2).isNotEmpty());
+    Assert.assertEquals("eviction counted", 1, cache.stats().evictions());
+  }
+
+  @Test
+  public void boundsWeight() {
+
+    // given
+    LazyCache<String, String> cache = LazyCache.<String, String>builder(key -> key)
+        .maximumWeight(10, (key, value) -> value.length())
+        .build();
+
+    // when
+    cache.get("aaaa");
+    cache.get("bbbb");
+    cache.get("cccccc");
+
+    // then
+    Assert.assertEquals("two fit", 2, cache.size());
+    Assert.assertFalse("eldest evicted", cache.getIfPresent("aaaa").isNotEmpty());
+  }
+
+  @Test
+  public void expires() throws Exception {
+
+    // given
+    AtomicInteger calls = new AtomicInteger();
+    LazyCache<String, Integer> cache = LazyCache.<String, Integer>builder(key -> calls.incrementAndGet())
+        .expireAfterWrite(Duration.ofMillis(50))
+        .build();
+
+    // when
+    Integer first = cache.get("key");
+    Thread.sleep(80);
+
+    // then
+    Assert.assertFalse("expired", cache.getIfPresent("key").isNotEmpty());
+    Assert.assertEquals("reloads", Integer.valueOf(first + 1), cache.get("key"));
+  }
+
+  @Test
+  public void loadsMissingInOneBatch() {
+
+    // given
+    List<Set<Integer>> batches = new ArrayList<>();
+    LazyCache<Integer, String> cache = LazyCache.<Integer, String>builder(String::valueOf)
+        .batchLoader(keys -> {
+          batches.add(keys);
+          Map<Integer, String> values = new HashMap<>();
+          keys.forEach(key -> values.put(key, "#" + key));
+          return values;
+        })
+        .build();
+    cache.get(1);
+
+    // when
+    Map<Integer, String> values = cache.getAll(Arrays.asList(3, 1, 2));
+
+    // then
+    Assert.assertEquals("key order", Arrays.asList(3, 1, 2), new ArrayList<>(values.keySet()));
+    Assert.assertEquals("cached", "1", values.get(1));
+    Assert.assertEquals("batch loaded", "#3", values.get(3));
+    Assert.assertEquals("one batch", 1, batches.size());
+    Assert.assertEquals("only missing keys", 2, batches.get(0).size());
+    Assert.assertEquals("misses", 3, cache.stats().misses());
+    Assert.assertEquals("hits", 1, cache.stats().hits());
+  }
+
+  @Test
+  public void batchSeesEveryClaimedKey() throws Exception {
+
+    // given (a reader racing each bulk load for its first key)
+    List<Integer> keys = new ArrayList<>();
+    for (int i = 0; i < 64; i++) {
+      keys.add(i);
+    }
+    ExecutorService pool = Executors.newSingleThreadExecutor();
+
+    for (int round = 0; round < 50; round++) {
+      LazyCache<Integer, String> cache = LazyCache.<Integer, String>builder(String::valueOf)
+          .batchLoader(batch -> {
+            Map<Integer, String> values = new HashMap<>();
+            batch.forEach(key -> values.put(key, "#" + key));
+            return values;
+          })
+          .build();
+      Future<String> racing = pool.submit(() -> {
+        while (cache.size() == 0) {
+          Thread.onSpinWait();
+        }
+        return cache.get(0);
+      });
+
+      // when
+      Map<Integer, String> values = cache.getAll(keys);
+
+      // then
+      Assert.assertEquals("racing get", "#0", racing.get());
+      for (Integer key : keys) {
+        Assert.assertEquals("batch loaded", "#" + key, values.get(key));
+      }
+    }
+    pool.shutdown();
+  }
+
+  @Test
+  public void reloadsAfterFailure() {
+
+    // given
+    AtomicInteger calls = new AtomicInteger();
+    LazyCache<String, Integer> cache = Lazy.keyed(key -> {
+      if (calls.incrementAndGet() == 1) {
+        throw new IllegalStateException("first");
+      }
+      return calls.get();
+    });
+
+    // when
+    try {
+      cache.get("key");
+      Assert.fail("should rethrow");
+    } catch (IllegalStateException e) {
+      Assert.assertEquals("first", e.getMessage());
+    }
+
+    // then
+    Assert.assertEquals("not cached", 0, cache.size());
+    Assert.assertEquals("loads again", Integer.valueOf(2), cache.get("key"));
+  }
+
+}
@@ -0,0 +1,178 @@
+package com.vambraceservices;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class LazyTest {
+
+  @Test
+  public void get() throws Exception {
+
+    // given
+    AtomicInteger calls = new AtomicInteger();
+    Lazy<String> lazy = Lazy.init(() -> "value " + calls.incrementAndGet());
+
+    // then (loaded once, on first get)
+    Assert.assertFalse("not loaded", lazy.isLoaded());
+    Assert.assertEquals("loads value", "value 1", lazy.get());
+    Assert.assertEquals("keeps value", "value 1", lazy.get());
+    Assert.assertTrue("loaded", lazy.isLoaded());
+  }
+
+  @Test
+  public void memoizesNull() throws Exception {
+
+    // given
+    AtomicInteger calls = new AtomicInteger();
+    Lazy<String> lazy = Lazy.init(() -> {
+      calls.incrementAndGet();
+      return null;
+    });
+
+    // when
+    lazy.get();
+    lazy.get();
+
+    // then
+    Assert.assertNull("null value", lazy.get());
+    Assert.assertEquals("loaded once", 1, calls.get());
+  }
+
+  @Test
+  public void loadsOnceUnderContention() throws Exception {
+
+    // given
+    AtomicInteger calls = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+    Lazy<Integer> lazy = Lazy.init(() -> {
+      calls.incrementAndGet();
+      return 42;
+    });
+    List<Thread> readers = new ArrayList<>();
+
+    // when
+    for (int i = 0; i < 16; i++) {
+      readers.add(new Thread(() -> {
+        try {
+          start.await();
+        } catch (InterruptedException e) {
+          return;
+        }
+        Assert.assertEquals(Integer.valueOf(42), lazy.get());
+      }));
+    }
+    readers.forEach(Thread::start);
+    start.countDown();
+    for (Thread reader : readers) {
+      reader.join();
+    }
+
+    // then
+    Assert.assertEquals("loaded once", 1, calls.get());
+  }
+
+  @Test
+  public void failurePolicies() throws Exception {
+
+    // given
+    AtomicInteger calls = new AtomicInteger();
+    Lazy<String> retried = Lazy.init(() -> {
+      if (calls.incrementAndGet() == 1) {
+        throw new IllegalStateException();
+      }
+      return "recovered";
+    });
+    AtomicInteger cachedCalls = new AtomicInteger();
+    Lazy<String> cached = Lazy.init(() -> {
+      cachedCalls.incrementAndGet();
+      throw new IllegalStateException();
+    }, Lazy.Policy.cache());
+    AtomicInteger backoffCalls = new AtomicInteger();
+    Lazy<String> backedOff = Lazy.init(() -> {
+      backoffCalls.incrementAndGet();
+      throw new IllegalStateException();
+    }, Lazy.Policy.retry(Duration.ofHours(1), Duration.ofHours(2)));
+
+    // when
+    for (int i = 0; i < 3; i++) {
+      try {
+        cached.get();
+      } catch (IllegalStateException e) {
+        // expected
+      }
+      try {
+        backedOff.get();
+      } catch (IllegalStateException e) {
+        // expected
+      }
+    }
+    try {
+      retried.get();
+    } catch (IllegalStateException e) {
+      // expected
+    }
+
+    // then
+    Assert.assertEquals("retries on next get", "recovered", retried.get());
+    Assert.assertEquals("exception cached", 1, cachedCalls.get());
+    Assert.assertEquals("waits for backoff", 1, backoffCalls.get());
+  }
+
+  @Test
+  public void initAsyncSharesOneLoad() throws Exception {
+
+    // given
+    AtomicInteger calls = new AtomicInteger();
+    List<Runnable> queued = new ArrayList<>();
+    AsyncLazy<Integer> lazy = Lazy.initAsync(calls::incrementAndGet, queued::add);
+
+    // when
+    CompletableFuture<Integer> first = lazy.toFuture();
+    CompletableFuture<Integer> second = lazy.toFuture();
+
+    // then
+    Assert.assertEquals("one load started", 1, queued.size());
+    Assert.assertFalse("not loaded yet", lazy.isLoaded());
+
+    // when
+    queued.get(0).run();
+
+    // then
+    Assert.assertEquals("value", Integer.valueOf(1), first.get());
+    Assert.assertEquals("same value", Integer.valueOf(1), second.get());
+    Assert.assertEquals("get", Integer.valueOf(1), lazy.get());
+    Assert.assertEquals("one call", 1, calls.get());
+  }
+
+  @Test
+  public void initAsyncRetriesAfterFailure() {
+
+    // given
+    AtomicInteger calls = new AtomicInteger();
+    AsyncLazy<Integer> lazy = Lazy.initAsync(() -> {
+      if (calls.incrementAndGet() == 1) {
+        throw new IllegalStateException("first");
+      }
+      return calls.get();
+    }, Runnable::run);
+
+    // when
+    try {
+      lazy.get();
+      Assert.fail("should rethrow");
+    } catch (IllegalStateException e) {
+      Assert.assertEquals("first", e.getMessage());
+    }
+
+    // then
+    Assert.assertEquals("loads again", Integer.valueOf(2), lazy.get());
+  }
+
+}
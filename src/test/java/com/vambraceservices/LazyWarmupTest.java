@@ -0,0 +1,123 @@
+package com.vambraceservices;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class LazyWarmupTest {
+
+  @Test
+  public void loadsDependenciesFirst() {
+
+    // given
+    List<String> loaded = Collections.synchronizedList(new ArrayList<>());
+    Lazy<String> config = Lazy.init(() -> record(loaded, "config"));
+    Lazy<String> db = Lazy.init(() -> record(loaded, "db"));
+    AsyncLazy<String> repo = Lazy.initAsync(() -> record(loaded, "repo"));
+
+    // when
+    LazyWarmup.Report report = Lazy.warmup()
+        .add("repo", repo, "db", "config")
+        .add("db", db, "config")
+        .add("config", config)
+        .run(Duration.ofSeconds(5));
+
+    // then
+    Assert.assertTrue(report.toString(), report.isComplete());
+    Assert.assertEquals("order", List.of("config", "db", "repo"), loaded);
+    Assert.assertEquals("timed", 3, report.timings().size());
+    Assert.assertTrue("loaded", repo.isLoaded());
+  }
+
+  @Test
+  public void loadsIndependentInParallel() {
+
+    // given (each waits until both have started)
+    CountDownLatch started = new CountDownLatch(2);
+    Lazy<Boolean> left = Lazy.init(() -> meet(started));
+    Lazy<Boolean> right = Lazy.init(() -> meet(started));
+
+    // when
+    LazyWarmup.Report report = Lazy.warmup()
+        .add("left", left)
+        .add("right", right)
+        .run(Duration.ofSeconds(5));
+
+    // then
+    Assert.assertTrue(report.toString(), report.isComplete());
+    Assert.assertTrue("met", left.get() && right.get());
+  }
+
+  @Test
+  public void reportsFailuresAndPending() {
+
+    // given
+    CountDownLatch never = new CountDownLatch(1);
+    Lazy<String> broken = Lazy.init(() -> {
+      throw new IllegalStateException("broken");
+    });
+    Lazy<String> dependent = Lazy.init(() -> "dependent");
+    Lazy<Boolean> slow = Lazy.init(() -> {
+      try {
+        return never.await(2, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        return false;
+      }
+    });
+
+    // when
+    LazyWarmup.Report report = Lazy.warmup()
+        .add("broken", broken)
+        .add("dependent", dependent, "broken")
+        .add("slow", slow)
+        .run(Duration.ofMillis(100));
+    never.countDown();
+
+    // then
+    Assert.assertFalse("incomplete", report.isComplete());
+    Assert.assertEquals("cause", "broken", report.failures().get("broken").getMessage());
+    Assert.assertTrue("dependent skipped", report.failures().containsKey("dependent"));
+    Assert.assertEquals("pending", Collections.singleton("slow"), report.pending());
+  }
+
+  @Test
+  public void detectsCycles() {
+
+    // given
+    LazyWarmup warmup = Lazy.warmup()
+        .add("a", Lazy.init(() -> 1), "b")
+        .add("b", Lazy.init(() -> 2), "c")
+        .add("c", Lazy.init(() -> 3), "a");
+
+    // when
+    try {
+      warmup.run(Duration.ofSeconds(1));
+      Assert.fail("should detect cycle");
+    } catch (IllegalStateException e) {
+
+      // then
+      Assert.assertEquals("cycle a -> b -> c -> a", e.getMessage());
+    }
+  }
+
+  private static String record(List<String> loaded, String name) {
+    loaded.add(name);
+    return name;
+  }
+
+  private static boolean meet(CountDownLatch started) {
+    started.countDown();
+    try {
+      return started.await(2, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      return false;
+    }
+  }
+
+}
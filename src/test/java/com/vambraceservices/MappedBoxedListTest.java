@@ -0,0 +1,139 @@
+package com.vambraceservices;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class MappedBoxedListTest {
+
+  private static final BoxedCodec<Byte> BYTES = new BoxedCodec<Byte>() {
+    @Override
+    public int width() {
+      return Byte.BYTES;
+    }
+
+    @Override
+    public void write(ByteBuffer target, int offset, Byte item) {
+      target.put(offset, item);
+    }
+
+    @Override
+    public Byte read(ByteBuffer source, int offset, int length) {
+      return source.get(offset);
+    }
+  };
+
+  @Test
+  public void fixedWidth() throws Exception {
+
+    // given (a file of longs)
+    List<Long> numbers = new ArrayList<>();
+    for (long i = 0; i < 1000; i++) {
+      numbers.add(i * 3);
+    }
+    Path file = Files.createTempFile("mapped", ".bin");
+    BoxedList.of(numbers).save(file, BoxedCodec.longs());
+
+    // when (mapped in small regions)
+    try (OffHeapBoxedList<Long> list = OffHeapBoxedList.mapped(file, BoxedCodec.longs(), 100)) {
+
+      // then
+      Assert.assertEquals("size", 1000, list.size());
+      Assert.assertEquals("random access", Long.valueOf(2997), list.get(999));
+      Assert.assertEquals("stream", numbers, list.stream().collect(Collectors.toList()));
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void singleByteWidth() throws Exception {
+
+    // given (one item per byte, mapped with the default region size)
+    List<Byte> bytes = Arrays.asList((byte) 1, (byte) 2, (byte) 3);
+    Path file = Files.createTempFile("mapped", ".bin");
+    BoxedList.of(bytes).save(file, BYTES);
+
+    // when
+    try (OffHeapBoxedList<Byte> list = BoxedList.mapped(file, BYTES)) {
+
+      // then (the region count does not overflow)
+      Assert.assertEquals("decodes", bytes, list.get());
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void variableWidth() throws Exception {
+
+    // given (a file of strings)
+    List<String> words = Arrays.asList("one", "", "three", "four");
+    Path file = Files.createTempFile("mapped", ".bin");
+    BoxedList.of(words).save(file, BoxedCodec.utf8());
+
+    // when (mapped in regions smaller than the file)
+    try (OffHeapBoxedList<String> list = OffHeapBoxedList.mapped(file, BoxedCodec.utf8(), 12)) {
+
+      // then
+      Assert.assertEquals("decodes", words, list.get());
+      Assert.assertEquals("first", "one", list.first().orElse(null));
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test(expected = IOException.class)
+  public void invalidLength() throws Exception {
+
+    // given (file that is not a multiple of the width)
+    Path file = Files.createTempFile("mapped", ".bin");
+    Files.write(file, new byte[] {1, 2, 3});
+
+    // then
+    try {
+      BoxedList.mapped(file, BoxedCodec.ints());
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test(expected = IOException.class)
+  public void negativeItemLength() throws Exception {
+
+    // given (length prefix of -4, which would otherwise never advance)
+    Path file = Files.createTempFile("mapped", ".bin");
+    Files.write(file, ByteBuffer.allocate(8).putInt(-4).putInt(0).array());
+
+    // then
+    try {
+      BoxedList.mapped(file, BoxedCodec.utf8());
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test(expected = IOException.class)
+  public void oversizedItemLength() throws Exception {
+
+    // given (length prefix past the end of the file)
+    Path file = Files.createTempFile("mapped", ".bin");
+    Files.write(file, ByteBuffer.allocate(8).putInt(Integer.MAX_VALUE).putInt(0).array());
+
+    // then
+    try {
+      BoxedList.mapped(file, BoxedCodec.utf8());
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+}
@@ -0,0 +1,150 @@
+package com.vambraceservices;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class OffHeapBoxedListTest {
+
+  @Test
+  public void fixedWidth() throws Exception {
+
+    // given (more items than fit in one chunk)
+    List<Integer> numbers = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      numbers.add(i);
+    }
+
+    // when
+    try (OffHeapBoxedList<Integer> list = OffHeapBoxedList.of(numbers, BoxedCodec.ints(), 64)) {
+
+      // then (items are decoded in order)
+      Assert.assertEquals("size", 100, list.size());
+      Assert.assertEquals("first", Integer.valueOf(0), list.first().orElse(-1));
+      Assert.assertEquals("random access", Integer.valueOf(57), list.get(57));
+      Assert.assertEquals("copy", numbers, list.get());
+      Assert.assertEquals("stream", 4950, list.stream().mapToInt(Integer::intValue).sum());
+    }
+  }
+
+  @Test
+  public void singleByteWidth() throws Exception {
+
+    // given (one item per byte)
+    List<Byte> bytes = Arrays.asList((byte) 1, (byte) 2, (byte) 3);
+    BoxedCodec<Byte> codec = new BoxedCodec<Byte>() {
+      @Override
+      public int width() {
+        return Byte.BYTES;
+      }
+
+      @Override
+      public void write(ByteBuffer target, int offset, Byte item) {
+        target.put(offset, item);
+      }
+
+      @Override
+      public Byte read(ByteBuffer source, int offset, int length) {
+        return source.get(offset);
+      }
+    };
+
+    // when (the largest chunk size)
+    try (OffHeapBoxedList<Byte> list = OffHeapBoxedList.of(bytes, codec, Integer.MAX_VALUE)) {
+
+      // then (the chunk count does not overflow)
+      Assert.assertEquals("decodes", bytes, list.get());
+    }
+  }
+
+  @Test
+  public void variableWidth() throws Exception {
+
+    // given
+    List<String> words = Arrays.asList("one", "", "three", "a longer word than the chunk");
+
+    // when
+    try (OffHeapBoxedList<String> list = BoxedList.of(words).offHeap(BoxedCodec.utf8())) {
+
+      // then
+      Assert.assertEquals("decodes", words, list.view());
+      Assert.assertEquals("operators", Arrays.asList(3, 5), list.filter(v -> v.length() > 2).limit(2).map(String::length).get());
+    }
+
+    // when (chunks smaller than some items)
+    try (OffHeapBoxedList<String> list = OffHeapBoxedList.of(words, BoxedCodec.utf8(), 8)) {
+
+      // then
+      Assert.assertEquals("decodes", words, list.stream().collect(Collectors.toList()));
+    }
+  }
+
+  @Test
+  public void empty() throws Exception {
+
+    // when
+    try (OffHeapBoxedList<Long> list = OffHeapBoxedList.of(null, BoxedCodec.longs())) {
+
+      // then
+      Assert.assertTrue("empty", list.isEmpty());
+      Assert.assertFalse("no first", list.first().isPresent());
+      Assert.assertTrue("empty copy", list.get().isEmpty());
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void closed() throws Exception {
+
+    // given
+    OffHeapBoxedList<Double> list = OffHeapBoxedList.of(Arrays.asList(1d, 2d), BoxedCodec.doubles());
+
+    // when
+    list.close();
+    list.close();
+
+    // then
+    list.size();
+  }
+
+  @Test
+  public void nullItem() {
+
+    // given
+    List<String> words = Arrays.asList("one", null, "three");
+
+    // when
+    try {
+      OffHeapBoxedList.of(words, BoxedCodec.utf8()).close();
+      Assert.fail("null item accepted");
+    } catch (NullPointerException e) {
+
+      // then (rejected up front, naming the item)
+      Assert.assertEquals("message", "item 1 is null, off heap lists cannot hold nulls", e.getMessage());
+    }
+  }
+
+  @Test
+  public void utf8Size() {
+
+    // given (ascii, two and three byte chars, a surrogate pair and unpaired surrogates)
+    List<String> words = Arrays.asList("", "plain", "caf\u00e9", "\u20ac5", "\ud83d\ude00!", "\ud83d", "x\ude00",
+                                       "\ude00\ud83d");
+    BoxedCodec<String> codec = BoxedCodec.utf8();
+
+    for (String word : words) {
+
+      // when
+      int size = codec.sizeOf(word);
+
+      // then (matches what write encodes)
+      Assert.assertEquals(word, word.getBytes(StandardCharsets.UTF_8).length, size);
+    }
+  }
+
+}
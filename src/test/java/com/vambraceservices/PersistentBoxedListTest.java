@@ -0,0 +1,113 @@
+package com.vambraceservices;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public class PersistentBoxedListTest {
+
+  @Test
+  public void with() throws Exception {
+
+    // given
+    PersistentBoxedList<Integer> list = PersistentBoxedList.empty();
+    List<PersistentBoxedList<Integer>> versions = new ArrayList<>();
+
+    // when (items appended one at a time, past several trie levels)
+    for (int i = 0; i < 40000; i++) {
+      versions.add(list);
+      list = list.with(i);
+    }
+
+    // then (every version is kept intact)
+    Assert.assertEquals("size", 40000, list.size());
+    for (int i = 0; i < 40000; i += 997) {
+      Assert.assertEquals("version size", i, versions.get(i).size());
+      Assert.assertEquals("item", Integer.valueOf(i), list.get(i));
+    }
+    Assert.assertTrue("first version empty", versions.get(0).isEmpty());
+  }
+
+  @Test
+  public void set() throws Exception {
+
+    // given
+    List<Integer> expected = new ArrayList<>();
+    for (int i = 0; i < 5000; i++) {
+      expected.add(i);
+    }
+    PersistentBoxedList<Integer> original = BoxedList.of(expected).toPersistent();
+    PersistentBoxedList<Integer> list = original;
+    Random random = new Random(7);
+
+    // when (random items replaced)
+    for (int i = 0; i < 2000; i++) {
+      int index = random.nextInt(expected.size());
+      expected.set(index, -i);
+      list = list.set(index, -i);
+    }
+
+    // then (updated list matches, and original is unchanged)
+    Assert.assertEquals("updated", expected, list.get());
+    Assert.assertEquals("original unchanged", Integer.valueOf(4999), original.get(4999));
+    Assert.assertEquals("original unchanged", Integer.valueOf(0), original.first().orElse(-1));
+  }
+
+  @Test
+  public void concatAndSlice() throws Exception {
+
+    // given
+    PersistentBoxedList<String> left = PersistentBoxedList.copyOf(Arrays.asList("a", "b", "c"));
+
+    // when
+    PersistentBoxedList<String> joined = left.concat(BoxedList.of(Arrays.asList("d", "e")));
+    PersistentBoxedList<String> slice = joined.slice(1, 3);
+    PersistentBoxedList<String> extended = slice.with("x");
+
+    // then (slices can be extended without changing the list they came from)
+    Assert.assertEquals("concat", Arrays.asList("a", "b", "c", "d", "e"), joined.get());
+    Assert.assertEquals("slice", Arrays.asList("b", "c"), slice.get());
+    Assert.assertEquals("extended slice", Arrays.asList("b", "c", "x"), extended.get());
+    Assert.assertEquals("joined unchanged", "d", joined.get(3));
+    Assert.assertEquals("slice of slice", Arrays.asList("c", "x"), extended.slice(1, 3).view());
+  }
+
+  @Test
+  public void builder() throws Exception {
+
+    // given
+    PersistentBoxedList.Transient<Integer> builder = PersistentBoxedList.builder();
+
+    // when (built in place)
+    for (int i = 0; i < 3000; i++) {
+      builder.add(i);
+    }
+    builder.set(10, -10);
+    PersistentBoxedList<Integer> list = builder.persistent();
+    PersistentBoxedList<Integer> more = list.asTransient().add(3000).set(0, -1).persistent();
+
+    // then
+    Assert.assertEquals("size", 3000, list.size());
+    Assert.assertEquals("set", Integer.valueOf(-10), list.get(10));
+    Assert.assertEquals("last", Integer.valueOf(2999), list.get(2999));
+    Assert.assertEquals("unchanged by later transient", Integer.valueOf(0), list.get(0));
+    Assert.assertEquals("later transient", Integer.valueOf(-1), more.get(0));
+    Assert.assertEquals("later transient size", 3001, more.size());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void builderEnded() throws Exception {
+
+    // given
+    PersistentBoxedList.Transient<Integer> builder = PersistentBoxedList.builder();
+    builder.add(1).persistent();
+
+    // then
+    builder.add(2);
+  }
+
+}
@@ -0,0 +1,105 @@
+package com.vambraceservices;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ReclaimableLazyTest {
+
+  @Test
+  public void reloadsAfterReclaim() throws Exception {
+
+    // given
+    AtomicInteger calls = new AtomicInteger();
+    ReclaimableLazy<int[]> lazy = Lazy.weak(() -> new int[] {calls.incrementAndGet()});
+
+    // when
+    int first = lazy.get()[0];
+    for (int i = 0; i < 50 && lazy.isLoaded(); i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+
+    // then
+    Assert.assertFalse("reclaimed", lazy.isLoaded());
+    Assert.assertEquals("first", 1, first);
+    Assert.assertEquals("reloaded", 2, lazy.get()[0]);
+    Assert.assertEquals("reclaims", 1, lazy.reclaims());
+    Assert.assertEquals("reloads", 1, lazy.reloads());
+  }
+
+  @Test
+  public void keepsReachableValue() {
+
+    // given
+    AtomicInteger calls = new AtomicInteger();
+    ReclaimableLazy<int[]> lazy = Lazy.soft(() -> new int[] {calls.incrementAndGet()});
+
+    // when
+    int[] held = lazy.get();
+    System.gc();
+
+    // then
+    Assert.assertSame("same value", held, lazy.get());
+    Assert.assertEquals("one load", 1, calls.get());
+    Assert.assertEquals("no reloads", 0, lazy.reloads());
+  }
+
+  @Test
+  public void loadsOnceUnderContention() throws Exception {
+
+    // given
+    AtomicInteger calls = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+    ReclaimableLazy<String> lazy = Lazy.soft(() -> {
+      calls.incrementAndGet();
+      return "value";
+    });
+    ExecutorService pool = Executors.newFixedThreadPool(8);
+
+    // when
+    List<Future<String>> results = new ArrayList<>();
+    for (int i = 0; i < 16; i++) {
+      results.add(pool.submit(() -> {
+        start.await();
+        return lazy.get();
+      }));
+    }
+    start.countDown();
+    for (Future<String> result : results) {
+      Assert.assertEquals("value", result.get());
+    }
+    pool.shutdown();
+
+    // then
+    Assert.assertEquals("one load", 1, calls.get());
+  }
+
+  @Test
+  public void keepsNull() {
+
+    // given
+    AtomicInteger calls = new AtomicInteger();
+    ReclaimableLazy<String> lazy = Lazy.weak(() -> {
+      calls.incrementAndGet();
+      return null;
+    });
+
+    // when
+    lazy.get();
+    System.gc();
+
+    // then
+    Assert.assertNull("null value", lazy.get());
+    Assert.assertTrue("loaded", lazy.isLoaded());
+    Assert.assertEquals("one load", 1, calls.get());
+  }
+
+}
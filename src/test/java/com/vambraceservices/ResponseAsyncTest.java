@@ -0,0 +1,245 @@
+package com.vambraceservices;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class ResponseAsyncTest {
+
+  @Test
+  public void chainsSteps() {
+
+    // when
+    Response<Integer> response = Response.async(() -> Response.from("41"))
+        .to(Integer::valueOf)
+        .toAsync(value -> value + 1)
+        .as(value -> Response.from(value * 2).async())
+        .join();
+
+    // then
+    Assert.assertEquals("value", Integer.valueOf(84), response.value());
+  }
+
+  @Test
+  public void carriesErrorsAndEmpties() {
+
+    // when
+    Response<Integer> failed = Response.async(() -> Response.from("x")).to(Integer::valueOf).join();
+    Response<Integer> empty = Response.<String>empty().async().to(Integer::valueOf).join();
+
+    // then
+    Assert.assertTrue("thrown step becomes error", failed.error() instanceof NumberFormatException);
+    Assert.assertTrue("empty", empty.isEmpty());
+    Assert.assertFalse("no error", empty.hasError());
+  }
+
+  @Test
+  public void thrownErrorCompletesCall() {
+
+    // given
+    AssertionError thrown = new AssertionError("broken");
+
+    // when
+    Response<Integer> response = ResponseAsync.<Integer>from(() -> {
+      throw thrown;
+    }).join();
+
+    // then
+    Assert.assertSame("error", thrown, response.error());
+  }
+
+  @Test
+  public void allOfRunsInParallel() {
+
+    // given (each call waits until all have started)
+    CountDownLatch started = new CountDownLatch(3);
+    List<ResponseAsync<Integer>> calls = Arrays.asList(
+        Response.async(() -> meet(started, 1)),
+        Response.async(() -> meet(started, 2)),
+        Response.async(() -> meet(started, 3)));
+
+    // when
+    Response<List<Integer>> all = Response.allOf(calls).join();
+
+    // then
+    Assert.assertEquals("in order", Arrays.asList(1, 2, 3), all.value());
+  }
+
+  @Test
+  public void allOfCancelsOnFirstFailure() throws Exception {
+
+    // given
+    CountDownLatch interrupted = new CountDownLatch(1);
+    ResponseAsync<Integer> slow = Response.async(() -> block(interrupted));
+    ResponseAsync<Integer> broken = Response.async(() -> Response.failed("down", "backend down"));
+
+    // when
+    Response<List<Integer>> all = Response.allOf(Arrays.asList(slow, broken)).join();
+
+    // then
+    Assert.assertEquals("first error", "down", all.failure().code());
+    Assert.assertTrue("slow call interrupted", interrupted.await(5, TimeUnit.SECONDS));
+    Assert.assertSame("slow call cancelled", ResponseAsync.CANCELLED, slow.join().failure());
+  }
+
+  @Test
+  public void anyOfTakesFirstValue() throws Exception {
+
+    // given
+    CountDownLatch interrupted = new CountDownLatch(1);
+    ResponseAsync<Integer> slow = Response.async(() -> block(interrupted));
+    ResponseAsync<Integer> empty = Response.async(Response::empty);
+    ResponseAsync<Integer> fast = Response.async(() -> Response.from(7));
+
+    // when
+    Response<Integer> any = Response.anyOf(Arrays.asList(slow, empty, fast)).join();
+
+    // then
+    Assert.assertEquals("value", Integer.valueOf(7), any.value());
+    Assert.assertTrue("slow call interrupted", interrupted.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void anyOfFailsWhenNoValue() {
+
+    // when
+    Response<Integer> any = Response.anyOf(Arrays.asList(
+        Response.<Integer>async(Response::empty),
+        Response.<Integer>async(() -> Response.failed("down", "backend down")))).join();
+
+    // then
+    Assert.assertEquals("error", "down", any.failure().code());
+  }
+
+  @Test
+  public void raceTakesFirstToFinish() {
+
+    // given
+    CountDownLatch interrupted = new CountDownLatch(1);
+
+    // when
+    Response<Integer> first = Response.race(Arrays.asList(
+        Response.<Integer>async(() -> block(interrupted)),
+        Response.<Integer>async(() -> Response.failed("fast", "fails fast")))).join();
+
+    // then
+    Assert.assertEquals("first outcome", "fast", first.failure().code());
+  }
+
+  @Test
+  public void withinTimesOut() throws Exception {
+
+    // given
+    CountDownLatch interrupted = new CountDownLatch(1);
+    AtomicBoolean reached = new AtomicBoolean();
+
+    // when
+    Response<Integer> response = Response.<Integer>async(() -> block(interrupted))
+        .to(value -> {
+          reached.set(true);
+          return value;
+        })
+        .within(Duration.ofMillis(50))
+        .join();
+
+    // then
+    Assert.assertSame("timed out", ResponseAsync.TIMEOUT, response.failure());
+    Assert.assertTrue("call interrupted", interrupted.await(5, TimeUnit.SECONDS));
+    Assert.assertFalse("later step skipped", reached.get());
+  }
+
+  @Test
+  public void withinStopsTimerOnCompletion() throws Exception {
+
+    // given
+    int before = Delays.pending();
+
+    // when
+    Response<String> response = Response.async(() -> Response.from("fast")).within(Duration.ofSeconds(30)).join();
+
+    // then (the 30 second deadline is removed from the timer)
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (Delays.pending() > before && System.nanoTime() - deadline < 0) {
+      Thread.sleep(10);
+    }
+    Assert.assertEquals("value", "fast", response.value());
+    Assert.assertTrue("no pending timer", Delays.pending() <= before);
+  }
+
+  @Test
+  public void cancellingOneBranchSparesItsSibling() throws Exception {
+
+    // given (two stages branched from one slow source)
+    CountDownLatch release = new CountDownLatch(1);
+    ResponseAsync<Integer> source = Response.async(() -> {
+      try {
+        return release.await(5, TimeUnit.SECONDS) ? Response.from(1) : Response.failed("slow", "never released");
+      } catch (InterruptedException e) {
+        return Response.failed(e);
+      }
+    });
+    ResponseAsync<Integer> cancelled = source.to(value -> value + 1);
+    ResponseAsync<Integer> timedOut = source.to(value -> value + 2).within(Duration.ofMillis(10));
+    ResponseAsync<Integer> sibling = source.to(value -> value + 3);
+
+    // when
+    cancelled.cancel();
+    Response<Integer> timeout = timedOut.join();
+    release.countDown();
+
+    // then
+    Assert.assertSame("cancelled", ResponseAsync.CANCELLED, cancelled.join().failure());
+    Assert.assertSame("timed out", ResponseAsync.TIMEOUT, timeout.failure());
+    Assert.assertEquals("sibling unaffected", Integer.valueOf(4), sibling.join().value());
+    Assert.assertEquals("source unaffected", Integer.valueOf(1), source.join().value());
+  }
+
+  @Test
+  public void combinatorSparesSharedInputs() {
+
+    // given (a slow input that another stage also depends on)
+    CountDownLatch release = new CountDownLatch(1);
+    ResponseAsync<Integer> slow = Response.async(() -> {
+      try {
+        return release.await(5, TimeUnit.SECONDS) ? Response.from(1) : Response.failed("slow", "never released");
+      } catch (InterruptedException e) {
+        return Response.failed(e);
+      }
+    });
+    ResponseAsync<Integer> other = slow.to(value -> value * 10);
+
+    // when
+    Response<Integer> first = Response.race(Arrays.asList(slow, Response.async(() -> Response.from(2)))).join();
+    release.countDown();
+
+    // then
+    Assert.assertEquals("race", Integer.valueOf(2), first.value());
+    Assert.assertEquals("other stage still completes", Integer.valueOf(10), other.join().value());
+  }
+
+  private static Response<Integer> meet(CountDownLatch started, int value) {
+    started.countDown();
+    try {
+      return started.await(5, TimeUnit.SECONDS) ? Response.from(value) : Response.failed("apart", "never met");
+    } catch (InterruptedException e) {
+      return Response.failed(e);
+    }
+  }
+
+  private static Response<Integer> block(CountDownLatch interrupted) {
+    try {
+      Thread.sleep(10_000);
+      return Response.from(0);
+    } catch (InterruptedException e) {
+      interrupted.countDown();
+      return Response.failed(e);
+    }
+  }
+
+}
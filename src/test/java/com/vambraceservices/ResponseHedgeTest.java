@@ -0,0 +1,147 @@
+package com.vambraceservices;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ResponseHedgeTest {
+
+  @Test
+  public void hedgeWinsOverSlowAttempt() throws Exception {
+
+    // given (first attempt hangs, later ones answer straight away)
+    AtomicInteger calls = new AtomicInteger();
+    CountDownLatch interrupted = new CountDownLatch(1);
+    ResponseHedge hedge = Response.hedge(Duration.ofMillis(20), 3);
+
+    // when
+    Response<Integer> response = hedge.call(() -> {
+      int call = calls.incrementAndGet();
+      if (call == 1) {
+        try {
+          Thread.sleep(10_000);
+        } catch (InterruptedException e) {
+          interrupted.countDown();
+        }
+      }
+      return Response.from(call);
+    }).join();
+
+    // then
+    Assert.assertEquals("hedge answered", Integer.valueOf(2), response.value());
+    Assert.assertTrue("slow attempt interrupted", interrupted.await(5, TimeUnit.SECONDS));
+    Assert.assertEquals("attempts", 2, hedge.attempts());
+    Assert.assertEquals("hedges", 1, hedge.hedges());
+    Assert.assertEquals("hedges won", 1, hedge.hedgesWon());
+    Assert.assertEquals("cancellations", 1, hedge.cancellations());
+  }
+
+  @Test
+  public void fastCallIsNotHedged() throws Exception {
+
+    // given
+    ResponseHedge hedge = Response.hedge(Duration.ofSeconds(5), 3);
+
+    // when
+    Response<String> response = hedge.call(() -> Response.from("fast")).join();
+
+    // then
+    Assert.assertEquals("value", "fast", response.value());
+    Assert.assertEquals("one attempt", 1, hedge.attempts());
+    Assert.assertEquals("no hedges", 0, hedge.hedges());
+  }
+
+  @Test
+  public void failuresStartNextAttempt() {
+
+    // given
+    AtomicInteger calls = new AtomicInteger();
+
+    // when (delay longer than the test, so only failures start attempts)
+    Response<Integer> response = Response.<Integer>hedged(
+        () -> Response.failed("down", "attempt " + calls.incrementAndGet()), Duration.ofSeconds(30), 3).join();
+
+    // then
+    Assert.assertEquals("every attempt made", 3, calls.get());
+    Assert.assertEquals("first error", "attempt 1", response.failure().message());
+  }
+
+  @Test
+  public void retriedAttemptIsNotAHedge() {
+
+    // given (first attempt fails, second answers)
+    AtomicInteger calls = new AtomicInteger();
+    ResponseHedge hedge = Response.hedge(Duration.ofSeconds(30), 3);
+
+    // when
+    Response<Integer> response = hedge.<Integer>call(() -> {
+      int call = calls.incrementAndGet();
+      return call == 1 ? Response.failed("down", "first") : Response.from(call);
+    }).join();
+
+    // then (the second attempt started on failure, not on the delay)
+    Assert.assertEquals("value", Integer.valueOf(2), response.value());
+    Assert.assertEquals("attempts", 2, hedge.attempts());
+    Assert.assertEquals("no hedges", 0, hedge.hedges());
+    Assert.assertEquals("no hedges won", 0, hedge.hedgesWon());
+  }
+
+  @Test
+  public void failedCallStopsTimer() throws Exception {
+
+    // given
+    int before = Delays.pending();
+    AtomicInteger calls = new AtomicInteger();
+    ResponseHedge hedge = Response.hedge(Duration.ofSeconds(30), 2);
+
+    // when (every attempt fails)
+    hedge.<Integer>call(() -> Response.failed("down", "attempt " + calls.incrementAndGet())).join();
+
+    // then (the hedge waiting for 30 seconds is removed)
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (Delays.pending() > before && System.nanoTime() - deadline < 0) {
+      Thread.sleep(10);
+    }
+    Assert.assertEquals("every attempt made", 2, calls.get());
+    Assert.assertTrue("no pending timer", Delays.pending() <= before);
+  }
+
+  @Test
+  public void completedCallStopsTimer() throws Exception {
+
+    // given
+    int before = Delays.pending();
+    ResponseHedge hedge = Response.hedge(Duration.ofSeconds(30), 3);
+
+    // when
+    hedge.call(() -> Response.from("fast")).join();
+
+    // then (the hedge waiting for 30 seconds is removed)
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (Delays.pending() > before && System.nanoTime() - deadline < 0) {
+      Thread.sleep(10);
+    }
+    Assert.assertTrue("no pending timer", Delays.pending() <= before);
+  }
+
+  @Test
+  public void thrownErrorCompletesCall() {
+
+    // given
+    ResponseHedge hedge = Response.hedge(Duration.ofSeconds(30), 2);
+
+    // when
+    Response<Integer> response = hedge.<Integer>call(() -> {
+      throw new AssertionError("broken");
+    }).join();
+
+    // then (each attempt failed, and the first error is returned)
+    Assert.assertTrue("error", response.error() instanceof AssertionError);
+    Assert.assertEquals("attempts", 2, hedge.attempts());
+  }
+
+}
@@ -0,0 +1,164 @@
+package com.vambraceservices;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ResponseRetryTest {
+
+  @Test
+  public void retriesMatchingErrors() {
+
+    // given
+    AtomicInteger calls = new AtomicInteger();
+    ResponseRetry retry = Response.retry(5, Duration.ofMillis(1), Duration.ofMillis(10),
+                                         failure -> failure.code().equals("busy"));
+
+    // when
+    Response<Integer> response = retry.call(() -> {
+      int call = calls.incrementAndGet();
+      return call < 3 ? Response.failed("busy", "try later") : Response.from(call);
+    }).join();
+
+    // then
+    Assert.assertEquals("value", Integer.valueOf(3), response.value());
+    Assert.assertEquals("attempts", 3, retry.attempts());
+    Assert.assertEquals("retries", 2, retry.retries());
+  }
+
+  @Test
+  public void doesNotRetryOtherErrors() {
+
+    // given
+    ResponseRetry retry = Response.retry(5, Duration.ofMillis(1), Duration.ofMillis(10),
+                                         failure -> failure.code().equals("busy"));
+
+    // when
+    Response<Integer> response = retry.<Integer>call(() -> Response.failed(new IllegalArgumentException("bad"))).join();
+
+    // then
+    Assert.assertTrue("error kept", response.error() instanceof IllegalArgumentException);
+    Assert.assertEquals("one attempt", 1, retry.attempts());
+  }
+
+  @Test
+  public void stopsAfterMaxAttempts() {
+
+    // given
+    AtomicInteger calls = new AtomicInteger();
+    ResponseRetry retry = Response.retry(3, Duration.ZERO, Duration.ZERO, failure -> true);
+
+    // when
+    Response<Integer> response = retry.<Integer>call(
+        () -> Response.failed("busy", "attempt " + calls.incrementAndGet())).join();
+
+    // then
+    Assert.assertEquals("last error", "attempt 3", response.failure().message());
+    Assert.assertEquals("attempts", 3, retry.attempts());
+  }
+
+  @Test
+  public void cancelStopsRetrying() throws Exception {
+
+    // given
+    AtomicInteger calls = new AtomicInteger();
+    ResponseRetry retry = Response.retry(10, Duration.ofMillis(200), Duration.ofMillis(200), failure -> true);
+
+    // when
+    ResponseAsync<Integer> call = retry.call(() -> Response.failed("busy", "attempt " + calls.incrementAndGet()));
+    Thread.sleep(50);
+    call.cancel();
+    int made = calls.get();
+    Thread.sleep(300);
+
+    // then
+    Assert.assertSame("cancelled", ResponseAsync.CANCELLED, call.join().failure());
+    Assert.assertEquals("no more attempts", made, calls.get());
+  }
+
+  @Test
+  public void failingPredicateCompletesCall() {
+
+    // given
+    ResponseRetry retry = Response.retry(3, Duration.ZERO, Duration.ZERO, failure -> {
+      throw new IllegalStateException("predicate broke");
+    });
+
+    // when
+    Response<Integer> response = retry.<Integer>call(() -> Response.failed("busy", "try later")).join();
+
+    // then
+    Assert.assertEquals("predicate error", "predicate broke", response.error().getMessage());
+  }
+
+  @Test
+  public void rejectedBackoffCompletesCall() {
+
+    // given (an executor that refuses the scheduled retry)
+    AtomicInteger executed = new AtomicInteger();
+    ResponseRetry retry = new ResponseRetry(3, Duration.ZERO, Duration.ZERO, failure -> true, task -> {
+      if (executed.incrementAndGet() > 1) {
+        throw new RejectedExecutionException("shut down");
+      }
+      task.run();
+    });
+
+    // when
+    Response<Integer> response = retry.<Integer>call(() -> Response.failed("busy", "try later")).join();
+
+    // then
+    Assert.assertTrue("rejection reported", response.error() instanceof RejectedExecutionException);
+  }
+
+  @Test
+  public void cancelStopsBackoffTimer() throws Exception {
+
+    // given (backoff longer than the test)
+    int before = Delays.pending();
+    CountDownLatch failed = new CountDownLatch(1);
+    ResponseRetry retry = Response.retry(3, Duration.ofSeconds(30), Duration.ofSeconds(30), failure -> true);
+    ResponseAsync<Integer> call = retry.call(() -> {
+      failed.countDown();
+      return Response.failed("busy", "try later");
+    });
+    Assert.assertTrue("first attempt", failed.await(5, TimeUnit.SECONDS));
+    long scheduled = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (Delays.pending() == before && System.nanoTime() - scheduled < 0) {
+      Thread.sleep(10);
+    }
+    Assert.assertEquals("backing off", before + 1, Delays.pending());
+
+    // when
+    call.cancel();
+
+    // then
+    Assert.assertSame("cancelled", ResponseAsync.CANCELLED, call.join().failure());
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (Delays.pending() > before && System.nanoTime() - deadline < 0) {
+      Thread.sleep(10);
+    }
+    Assert.assertTrue("no pending timer", Delays.pending() <= before);
+  }
+
+  @Test
+  public void thrownErrorCompletesCall() {
+
+    // given
+    ResponseRetry retry = Response.retry(3, Duration.ZERO, Duration.ZERO, failure -> false);
+
+    // when
+    Response<Integer> response = retry.<Integer>call(() -> {
+      throw new AssertionError("broken");
+    }).join();
+
+    // then
+    Assert.assertTrue("error", response.error() instanceof AssertionError);
+    Assert.assertEquals("one attempt", 1, retry.attempts());
+  }
+
+}
@@ -91,4 +91,69 @@ public class ResponseTest {
     Assert.assertTrue("shows response is empty", emptyResponse.isEmpty());
   }
 
+  @Test
+  public void testLightweightFailure() {
+
+    // given (a shared failure constant)
+    Response.Failure notFound = Response.Failure.of(Code.NOT_FOUND, "no such user");
+
+    // when (mapped through to and as)
+    Response<Integer> failed = Response.<String>failed(notFound)
+        .to(Integer::valueOf)
+        .as(value -> Response.from(value + 1));
+
+    // then (the failure is carried, not rebuilt)
+    Assert.assertTrue("has error", failed.hasError());
+    Assert.assertTrue("empty", failed.isEmpty());
+    Assert.assertSame("same failure", notFound, failed.failure());
+    Assert.assertTrue("code", failed.failure().is(Code.NOT_FOUND));
+    Assert.assertEquals("message", "NOT_FOUND: no such user", failed.toString());
+
+    // when (a throwable is asked for)
+    Throwable error = failed.error();
+
+    // then (built once, on demand)
+    Assert.assertTrue("thrown form", error instanceof Response.FailureException);
+    Assert.assertSame("keeps failure", notFound, ((Response.FailureException) error).failure());
+    Assert.assertSame("cached", error, failed.error());
+    Assert.assertEquals("prints the same", "NOT_FOUND: no such user", failed.toString());
+    failed.consumeError(throwable -> Assert.assertSame("consumes built error", error, throwable));
+  }
+
+  @Test
+  public void testFailureElseThrow() {
+
+    // given
+    Response<String> failed = Response.failed("invalid", "name is blank");
+
+    // when
+    try {
+      failed.elseThrow((Throwable cause) -> new IllegalArgumentException(cause));
+      Assert.fail("should throw");
+    } catch (IllegalArgumentException e) {
+
+      // then
+      Assert.assertEquals("wraps failure", "invalid: name is blank", e.getCause().getMessage());
+    }
+  }
+
+  @Test
+  public void testFailureOfThrowable() {
+
+    // given
+    Response<String> failed = Response.failed(new IllegalStateException("broken"));
+
+    // when
+    Response.Failure failure = failed.failure();
+
+    // then
+    Assert.assertEquals("code", "IllegalStateException", failure.code());
+    Assert.assertEquals("message", "broken", failure.message());
+    failed.consumeFailure(f -> Assert.assertEquals("consumed", "broken", f.message()));
+  }
+
+  private enum Code {
+    NOT_FOUND
+  }
+
 }
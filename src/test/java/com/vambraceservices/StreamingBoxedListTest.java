@@ -0,0 +1,177 @@
+package com.vambraceservices;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+public class StreamingBoxedListTest {
+
+  @Test
+  public void iterator() throws Exception {
+
+    // given (an iterator that counts pulls)
+    AtomicInteger pulled = new AtomicInteger();
+    Iterator<Integer> source = IntStream.range(0, 1000).peek(v -> pulled.incrementAndGet()).iterator();
+
+    // when (operators applied and terminal operation stops early)
+    List<Integer> result = BoxedList.streaming(source)
+        .filter(v -> v % 2 == 0)
+        .map(v -> v * 10)
+        .limit(3)
+        .get();
+
+    // then (only the needed items were pulled)
+    Assert.assertEquals("result", Arrays.asList(0, 20, 40), result);
+    Assert.assertEquals("pulled incrementally", 5, pulled.get());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void consumedOnce() throws Exception {
+
+    // given
+    BoxedList<String> list = BoxedList.streaming(Arrays.asList("one", "two").spliterator());
+
+    // when
+    Assert.assertEquals("size", 2, list.size());
+
+    // then
+    list.get();
+  }
+
+  @Test
+  public void publisher() throws Exception {
+
+    // given
+    SubmissionPublisher<Integer> publisher = new SubmissionPublisher<>();
+    BoxedList<Integer> list = BoxedList.streaming(publisher, 4);
+
+    // when (items published while being consumed, then the publisher closed)
+    Thread producer = new Thread(() -> {
+      try (publisher) {
+        while (publisher.getNumberOfSubscribers() == 0) {
+          Thread.yield();
+        }
+        for (int i = 1; i <= 100; i++) {
+          publisher.submit(i);
+        }
+      }
+    });
+    producer.start();
+    int sum = list.map(v -> v * 2).reduce(0, Integer::sum);
+    producer.join();
+
+    // then
+    Assert.assertEquals("consumes all", 10100, sum);
+  }
+
+  @Test
+  public void publisherDemand() throws Exception {
+
+    // given (a publisher that records demand, and delivers synchronously)
+    AtomicInteger requested = new AtomicInteger();
+    AtomicInteger cancelled = new AtomicInteger();
+    Flow.Publisher<Integer> publisher = subscriber -> subscriber.onSubscribe(new Flow.Subscription() {
+      private int sent;
+
+      @Override
+      public void request(long n) {
+        requested.addAndGet((int) n);
+        for (long i = 0; i < n; i++) {
+          subscriber.onNext(sent++);
+        }
+      }
+
+      @Override
+      public void cancel() {
+        cancelled.incrementAndGet();
+      }
+    });
+
+    // when (consumer stops early)
+    List<Integer> result = BoxedList.streaming(publisher, 4).limit(3).get();
+
+    // then (demand is bounded, and the subscription is cancelled)
+    Assert.assertEquals("result", Arrays.asList(0, 1, 2), result);
+    Assert.assertEquals("requested buffer and one batch", 6, requested.get());
+    Assert.assertEquals("cancelled", 1, cancelled.get());
+  }
+
+  @Test(expected = CompletionException.class)
+  public void publisherError() throws Exception {
+
+    // given
+    SubmissionPublisher<Integer> publisher = new SubmissionPublisher<>();
+    BoxedList<Integer> list = BoxedList.streaming(publisher);
+
+    // when
+    new Thread(() -> {
+      while (publisher.getNumberOfSubscribers() == 0) {
+        Thread.yield();
+      }
+      publisher.closeExceptionally(new IllegalArgumentException());
+    }).start();
+
+    // then
+    list.get();
+  }
+
+  @Test
+  public void publisherOverflow() throws Exception {
+
+    // given (a publisher that ignores demand)
+    AtomicInteger cancelled = new AtomicInteger();
+    Flow.Publisher<Integer> publisher = subscriber -> {
+      subscriber.onSubscribe(new Flow.Subscription() {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+          cancelled.incrementAndGet();
+        }
+      });
+      for (int i = 0; i < 100; i++) {
+        subscriber.onNext(i);
+      }
+      subscriber.onComplete();
+    };
+
+    // when
+    try {
+      BoxedList.streaming(publisher, 4).get();
+      Assert.fail("should fail");
+    } catch (CompletionException e) {
+
+      // then (the violation is reported, not items dropped)
+      Assert.assertTrue("protocol error", e.getCause() instanceof IllegalStateException);
+      Assert.assertEquals("cancelled", 1, cancelled.get());
+    }
+  }
+
+  @Test
+  public void checkedThenConsumed() throws Exception {
+
+    // given
+    BoxedList<String> list = BoxedList.streaming(Arrays.asList("one", "three").iterator());
+    BoxedList<String> mapped = BoxedList.streaming(Arrays.asList("one", "three").iterator());
+
+    // when (emptiness checked before the one traversal)
+    boolean empty = list.isEmpty();
+    List<Integer> lengths = mapped.parallelMap(String::length).view();
+
+    // then
+    Assert.assertFalse("not empty", empty);
+    Assert.assertEquals("consumed after check", Arrays.asList("one", "three"), list.get());
+    Assert.assertEquals("parallel map traverses once", Arrays.asList(3, 5), lengths);
+  }
+
+}